@@ -61,6 +61,19 @@ application {
     mainClass.set("it.unibo.towerdefense.TowerDefense")
 }
 
+tasks.register<JavaExec>("renderScaleBenchmark") {
+    description = "Compares the frame time of each render scale at each resolution."
+    classpath = sourceSets["test"].runtimeClasspath
+    mainClass.set("it.unibo.towerdefense.view.graphics.RenderScaleBenchmark")
+    systemProperty("java.awt.headless", "true")
+}
+
+tasks.register<JavaExec>("saveFormatBenchmark") {
+    description = "Compares the size and the loading time of the JSON and binary save formats."
+    classpath = sourceSets["test"].runtimeClasspath
+    mainClass.set("it.unibo.towerdefense.model.saves.SaveFormatBenchmark")
+}
+
 tasks.test {
     useJUnitPlatform()
     testLogging {
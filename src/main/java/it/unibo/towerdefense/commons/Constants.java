@@ -38,6 +38,38 @@ public final class Constants {
         new SizeImpl(1280, 720)
     );
 
+    /**
+     * The available scales at which the game world can be rendered,
+     * relative to the size of the canvas.
+     */
+    public static final List<Double> RENDER_SCALES = List.of(1.0, 0.75, 0.5);
+
+    /**
+     * The number of game updates per second while the game window is iconified or hidden,
+     * when nothing is rendered. A value lower than the normal 60 throttles the game in background.
+     */
+    public static final int HIDDEN_UPDATES_PER_SECOND = 60;
+
+    /**
+     * The number of waves between two autosaves.
+     */
+    public static final int AUTOSAVE_INTERVAL = 2;
+
+    /**
+     * The number of consecutive autosaves stored as deltas before a full snapshot is stored again.
+     */
+    public static final int AUTOSAVE_COMPACTION = 5;
+
+    /**
+     * The number of most recent autosaves kept for each player.
+     */
+    public static final int AUTOSAVE_HISTORY = 10;
+
+    /**
+     * The number of most recent replays kept for each player.
+     */
+    public static final int REPLAY_HISTORY = 10;
+
     /**
      * The size of Map in cells.
      */
@@ -0,0 +1,122 @@
+package it.unibo.towerdefense.commons.api;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Interface for sources of elements that are fetched a page at a time,
+ * so that only the requested elements are materialized.
+ * @param <T> the type of the elements
+ */
+public interface PagedSource<T> {
+
+    /**
+     * Returns the number of elements of the source.
+     * @return the number of elements
+     */
+    int size();
+
+    /**
+     * Returns a page of elements.
+     * @param from the position of the first element, from zero
+     * @param count the maximum number of elements
+     * @return the unmodifiable list of elements, empty if from is past the end
+     */
+    List<T> getPage(int from, int count);
+
+    /**
+     * Returns a source whose elements are mapped only when their page is requested.
+     * @param <R> the type of the mapped elements
+     * @param mapper the function mapping each element
+     * @return the mapped source
+     */
+    default <R> PagedSource<R> map(final Function<? super T, ? extends R> mapper) {
+        final PagedSource<T> source = this;
+        return new PagedSource<>() {
+            @Override
+            public int size() {
+                return source.size();
+            }
+
+            @Override
+            public List<R> getPage(final int from, final int count) {
+                return source.getPage(from, count).stream()
+                    .<R>map(mapper)
+                    .toList();
+            }
+        };
+    }
+
+    /**
+     * Returns a source with the elements of this source followed by the given ones.
+     * @param tail the elements to append
+     * @return the concatenated source
+     */
+    default PagedSource<T> append(final List<T> tail) {
+        final PagedSource<T> source = this;
+        final PagedSource<T> appended = of(tail);
+        return new PagedSource<>() {
+            @Override
+            public int size() {
+                return source.size() + appended.size();
+            }
+
+            @Override
+            public List<T> getPage(final int from, final int count) {
+                final List<T> head = source.getPage(from, count);
+                if (head.size() == count) {
+                    return head;
+                }
+                final List<T> rest = appended.getPage(Math.max(from - source.size(), 0), count - head.size());
+                return head.isEmpty() ? rest : Stream.concat(head.stream(), rest.stream()).toList();
+            }
+        };
+    }
+
+    /**
+     * Returns a source backed by the given functions.
+     * @param <T> the type of the elements
+     * @param size the supplier of the number of elements
+     * @param page the function returning the page starting from a position with at most a number of elements
+     * @return the source
+     */
+    static <T> PagedSource<T> of(final IntSupplier size, final BiFunction<Integer, Integer, List<T>> page) {
+        return new PagedSource<>() {
+            @Override
+            public int size() {
+                return size.getAsInt();
+            }
+
+            @Override
+            public List<T> getPage(final int from, final int count) {
+                return page.apply(from, count);
+            }
+        };
+    }
+
+    /**
+     * Returns a source backed by a list.
+     * @param <T> the type of the elements
+     * @param elements the elements of the source
+     * @return the source
+     */
+    static <T> PagedSource<T> of(final List<T> elements) {
+        final List<T> copy = List.copyOf(elements);
+        return new PagedSource<>() {
+            @Override
+            public int size() {
+                return copy.size();
+            }
+
+            @Override
+            public List<T> getPage(final int from, final int count) {
+                final int start = Math.min(Math.max(from, 0), copy.size());
+                final int end = start + Math.min(Math.max(count, 0), copy.size() - start);
+                return copy.subList(start, end);
+            }
+        };
+    }
+}
@@ -31,4 +31,20 @@ public interface GameState {
      * @return a Stream of DTOs for the defenses
      */
     Stream<DefenseDescription> getDefenses();
+
+    /**
+     * Returns the number of the simulation tick this state belongs to,
+     * which is the same for all the frames rendered between two ticks.
+     *
+     * @return the number of the tick
+     */
+    long getTick();
+
+    /**
+     * Returns the fraction of the next tick elapsed when the state is rendered,
+     * used to interpolate the motion between the previous tick and this one.
+     *
+     * @return the elapsed fraction, in [0, 1]
+     */
+    double getInterpolation();
 }
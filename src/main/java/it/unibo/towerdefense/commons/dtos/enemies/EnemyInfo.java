@@ -10,6 +10,14 @@ public interface EnemyInfo {
      */
     int HP_SCALE = 100;
 
+    /**
+     * Getter for the identifier of the Enemy, which stays the same for its whole life
+     * and is not shared with other enemies of the same game.
+     *
+     * @return the identifier of the Enemy
+     */
+    int id();
+
     /**
      * Getter for the LogicalPosition of the Enemy.
      *
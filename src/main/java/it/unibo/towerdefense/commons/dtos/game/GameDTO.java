@@ -39,6 +39,12 @@ public interface GameDTO extends JsonSerializable, Copyable<GameDTO> {
      */
     GameStatus getStatus();
 
+    /**
+     * Returns the seed of the randomness of the game.
+     * @return the seed
+     */
+    long getSeed();
+
     /**
      * Returns the GameDTO object from JSON string.
      * @param jsonData the JSON representation
@@ -16,13 +16,16 @@ public class GameDTOImpl implements GameDTO {
     private static final String LIVES_FIELD = "lives";
     private static final String MONEY_FIELD = "money";
     private static final String STATUS_FIELD = "status";
+    private static final String SEED_FIELD = "seed";
     private static final int DEFAULT_VALUE = 0;
     private static final GameStatus DEFAULT_STATUS = GameStatus.PLAYING;
+    private static final long DEFAULT_SEED = 0;
 
     private final String playerName;
     private final int lives;
     private final int money;
     private final int wave;
+    private final long seed;
     private GameStatus status;
 
     /**
@@ -32,20 +35,40 @@ public class GameDTOImpl implements GameDTO {
      * @param money the amount of money
      * @param wave the wave number
      * @param status the game status
+     * @param seed the seed of the randomness of the game
      */
     public GameDTOImpl(
         final String playerName,
         final int lives,
         final int money,
         final int wave,
-        final GameStatus status
-
+        final GameStatus status,
+        final long seed
     ) {
         this.playerName = playerName;
         this.lives = lives;
         this.money = money;
         this.wave = wave;
         this.status = status;
+        this.seed = seed;
+    }
+
+    /**
+     * Constructor for the GameDTO with the default seed.
+     * @param playerName the player name
+     * @param lives the amount of lives
+     * @param money the amount of money
+     * @param wave the wave number
+     * @param status the game status
+     */
+    public GameDTOImpl(
+        final String playerName,
+        final int lives,
+        final int money,
+        final int wave,
+        final GameStatus status
+    ) {
+        this(playerName, lives, money, wave, status, DEFAULT_SEED);
     }
 
     /**
@@ -102,6 +125,14 @@ public class GameDTOImpl implements GameDTO {
         return status;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getSeed() {
+        return seed;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -114,6 +145,7 @@ public class GameDTOImpl implements GameDTO {
             .put(LIVES_FIELD, this.getLives())
             .put(MONEY_FIELD, this.getMoney())
             .put(STATUS_FIELD, this.getStatus())
+            .put(SEED_FIELD, this.getSeed())
             .toString();
     }
 
@@ -130,7 +162,9 @@ public class GameDTOImpl implements GameDTO {
             jsonObject.getInt(LIVES_FIELD),
             jsonObject.getInt(MONEY_FIELD),
             jsonObject.getInt(WAVE_FIELD),
-            jsonObject.getEnum(GameStatus.class, "status")
+            jsonObject.getEnum(GameStatus.class, "status"),
+            // games saved before seeds were introduced get the default one
+            jsonObject.optLong(SEED_FIELD, DEFAULT_SEED)
         );
     }
 
@@ -144,7 +178,8 @@ public class GameDTOImpl implements GameDTO {
             this.getLives(),
             this.getMoney(),
             this.getWave(),
-            this.getStatus()
+            this.getStatus(),
+            this.getSeed()
         );
     }
 
@@ -159,7 +194,8 @@ public class GameDTOImpl implements GameDTO {
                 && this.getLives() == gameObject.getLives()
                 && this.getMoney() == gameObject.getMoney()
                 && this.getWave() == gameObject.getWave()
-                && this.getStatus() == gameObject.getStatus();
+                && this.getStatus() == gameObject.getStatus()
+                && this.getSeed() == gameObject.getSeed();
         }
         return false;
     }
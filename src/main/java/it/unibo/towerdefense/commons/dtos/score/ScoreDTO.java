@@ -17,4 +17,10 @@ public interface ScoreDTO {
      */
     int getWave();
 
+    /**
+     * Getter for the rank in the scoreboard.
+     * @return the rank, starting from one
+     */
+    int getRank();
+
 }
@@ -9,24 +9,27 @@ public class ScoreDTOImpl implements ScoreDTO {
 
     private final String name;
     private final int wave;
+    private final int rank;
 
     /**
-     * Constructs a new ScoreDTO object with the provided name and wave.
+     * Constructs a new ScoreDTO object with the provided name, wave and rank.
      * @param name the name of the player.
      * @param wave the wave reached by the player.
+     * @param rank the rank of the score in the scoreboard.
      */
-    public ScoreDTOImpl(final String name, final int wave) {
+    public ScoreDTOImpl(final String name, final int wave, final int rank) {
         this.name = name;
         this.wave = wave;
+        this.rank = rank;
     }
 
     /**
      * Constructs a new ScoreDTO object based on the provided ScoreImpl object.
      * @param score the ScoreImpl object to create the DTO from.
+     * @param rank the rank of the score in the scoreboard.
      */
-    public ScoreDTOImpl(final ScoreImpl score) {
-        this.name = score.getName();
-        this.wave = score.getWave();
+    public ScoreDTOImpl(final ScoreImpl score, final int rank) {
+        this(score.getName(), score.getWave(), rank);
     }
 
     /**
@@ -44,4 +47,12 @@ public class ScoreDTOImpl implements ScoreDTO {
     public int getWave() {
         return wave;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getRank() {
+        return rank;
+    }
 }
@@ -2,7 +2,9 @@ package it.unibo.towerdefense.commons.dtos.scoreboard;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.IntUnaryOperator;
+
+import it.unibo.towerdefense.commons.api.PagedSource;
 
 import it.unibo.towerdefense.model.scoreboard.Score;
 import it.unibo.towerdefense.model.scoreboard.Scoreboard;
@@ -12,7 +14,12 @@ import it.unibo.towerdefense.model.scoreboard.Scoreboard;
  */
 public class ScoreboardDTO {
 
+    private static final int TOP_SCORES = 10;
+
     private final List<Score> scores;
+    private final List<Score> topScores;
+    private final PagedSource<Score> rankedScores;
+    private final IntUnaryOperator ranks;
 
     /**
      * Constructor for ScoreboardDTO.
@@ -20,6 +27,9 @@ public class ScoreboardDTO {
      */
     public ScoreboardDTO(final Scoreboard scoreboard) {
         this.scores = scoreboard.getScoreboard();
+        this.topScores = scoreboard.getTopScores(TOP_SCORES);
+        this.rankedScores = PagedSource.of(scoreboard::getScoresCount, scoreboard::getRankedScores);
+        this.ranks = scoreboard::getRank;
     }
 
     /**
@@ -35,9 +45,23 @@ public class ScoreboardDTO {
      * @return the top ten scores
      */
     public List<Score> getTopTenScores() {
-        return this.getScores().stream()
-            .limit(10)
-            .sorted((s1, s2) -> Integer.compare(s2.getWave(), s1.getWave()))
-            .collect(Collectors.toList());
+        return this.topScores;
+    }
+
+    /**
+     * Returns the scores ordered by rank, fetched a page at a time.
+     * @return the paged source of scores
+     */
+    public PagedSource<Score> getRankedScores() {
+        return this.rankedScores;
+    }
+
+    /**
+     * Returns the rank of a score reaching the given wave.
+     * @param wave the wave reached
+     * @return the rank, starting from one
+     */
+    public int getRank(final int wave) {
+        return this.ranks.applyAsInt(wave);
     }
 }
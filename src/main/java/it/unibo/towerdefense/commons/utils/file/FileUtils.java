@@ -3,10 +3,12 @@ package it.unibo.towerdefense.commons.utils.file;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.Optional;
 import java.io.InputStreamReader;
 import java.io.InputStream;
@@ -134,6 +136,30 @@ public final class FileUtils {
         Files.writeString(path, content, StandardCharsets.UTF_8);
     }
 
+    /**
+     * Write raw content to a file, replacing it only once the content is fully written.
+     * The content is written to a temporary file in the same folder which is then
+     * moved atomically over the target, so a crash never leaves a partially written file.
+     * 
+     * @param filePath the path of the file to write
+     * @param content  the bytes to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void writeFileAtomically(final String filePath, final byte[] content) throws IOException {
+        final Path path = stringToPath(filePath).toAbsolutePath();
+        final Path temp = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, content);
+            try {
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
     /**
      * Create a file if it does not exist.
      * 
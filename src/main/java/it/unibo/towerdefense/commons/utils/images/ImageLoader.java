@@ -1,37 +1,87 @@
 package it.unibo.towerdefense.commons.utils.images;
 
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.imgscalr.Scalr;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import javax.imageio.ImageIO;
 
 /**
  * A class for loading an image from a filename, already scaled to the desired
  * size relative to the size of a cell.
+ *
+ * Loaded images are kept in a cache shared by every loader, so that the same
+ * sprite at the same size is decoded and resized only once per process.
+ * Scaled images are also stored on disk, keyed by the metadata of the resource,
+ * so that later launches at the same resolution skip reading, decoding and
+ * resizing entirely.
+ * Images can be requested asynchronously, in which case they are decoded and
+ * scaled in parallel by a pool of background threads.
  */
 public class ImageLoader {
     /*
-     * Size of a square cell in pixels.
+     * Maximum number of scaled sprites kept in memory, least recently used ones are evicted first.
+     */
+    private static final int MAX_CACHED_SPRITES = 256;
+    private static final Cache<SpriteKey, CompletableFuture<BufferedImage>> CACHE = CacheBuilder.newBuilder()
+        .maximumSize(MAX_CACHED_SPRITES)
+        .build();
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+        Runtime.getRuntime().availableProcessors(),
+        new ThreadFactoryBuilder().setNameFormat("ImageLoader-%d").setDaemon(true).build()
+    );
+    /*
+     * Size of a square cell in pixels, not rounded so that sprites
+     * spanning many cells are sized exactly.
      */
-    private final int cellSize;
+    private final double cellSize;
+    private final SpriteDiskCache diskCache;
 
     /**
-     * Constructor for the class.
+     * Constructor for the class, scaled images are stored in the default disk cache.
      *
      * @param cellSize the side of a cell
      */
-    public ImageLoader(final int cellSize) {
+    public ImageLoader(final double cellSize) {
+        this(cellSize, SpriteDiskCache.DEFAULT_FOLDER);
+    }
+
+    /**
+     * Constructor for the class with the folder of the disk cache.
+     *
+     * @param cellSize the side of a cell
+     * @param cacheFolder the folder where scaled images are stored
+     */
+    public ImageLoader(final double cellSize, final String cacheFolder) {
         if (cellSize <= 0) {
             throw new IllegalArgumentException("Cell size must be > 0");
         }
         this.cellSize = cellSize;
+        this.diskCache = new SpriteDiskCache(cacheFolder);
     }
 
     /**
      * Loads an image from the given path.
+     * The returned image is shared and must not be modified.
      *
      * @param name the path from the java classpath to the file
      *             allowed formats are JPEG, PNG, BMP, WBMP, GIF
@@ -41,11 +91,153 @@ public class ImageLoader {
      * @return the loaded image
      */
     public BufferedImage loadImage(final String name, final double size) throws IOException {
+        try {
+            return this.loadImageAsync(name, size).join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IOException("Failed to load image " + name, e.getCause());
+        }
+    }
+
+    /**
+     * Requests an image to be loaded in background.
+     * Requesting an image which is already loaded or being loaded returns the same future.
+     *
+     * @param name the path from the java classpath to the file
+     *             allowed formats are JPEG, PNG, BMP, WBMP, GIF
+     * @param size the size in cells the image should have.
+     * @return a future completed with the loaded image
+     * @see #loadImage(String, double)
+     */
+    public CompletableFuture<BufferedImage> loadImageAsync(final String name, final double size) {
         if (size <= 0) {
             throw new IllegalArgumentException("size can't be <= 0");
         }
-        final InputStream image = ClassLoader.getSystemResourceAsStream(name);
-        final BufferedImage baseImage = ImageIO.read(image);
-        return Scalr.resize(baseImage, (int) (cellSize * size));
+        final SpriteKey key = new SpriteKey(name, cellSize, size);
+        final CompletableFuture<BufferedImage> future = CACHE.asMap().computeIfAbsent(
+            key,
+            k -> CompletableFuture.supplyAsync(() -> {
+                try {
+                    return this.load(name, (int) (cellSize * size));
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, EXECUTOR)
+        );
+        // do not keep failed loads in the cache
+        future.whenComplete((image, e) -> {
+            if (Objects.nonNull(e)) {
+                CACHE.asMap().remove(key, future);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Creates an empty image in the format of the default screen, so that
+     * drawing it stays on the accelerated path.
+     * When no screen is available a plain BufferedImage is returned instead.
+     *
+     * @param width the width of the image
+     * @param height the height of the image
+     * @param transparency one of the {@link Transparency} constants
+     * @return the created image
+     */
+    public static BufferedImage createCompatibleImage(final int width, final int height, final int transparency) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return new BufferedImage(
+                width,
+                height,
+                transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB
+            );
+        }
+        return GraphicsEnvironment.getLocalGraphicsEnvironment()
+            .getDefaultScreenDevice()
+            .getDefaultConfiguration()
+            .createCompatibleImage(width, height, transparency);
+    }
+
+    /**
+     * Empties the cache shared by all loaders.
+     */
+    public static void clearCache() {
+        CACHE.invalidateAll();
+    }
+
+    private BufferedImage load(final String name, final int targetSize) throws IOException {
+        final String key = resourceKey(name);
+        final Optional<BufferedImage> stored = diskCache.load(key, targetSize);
+        final BufferedImage scaled;
+        if (stored.isPresent()) {
+            scaled = stored.get();
+        } else {
+            scaled = Scalr.resize(decode(name, readResource(name)), targetSize);
+            diskCache.store(key, targetSize, scaled);
+        }
+        return toCompatible(scaled);
+    }
+
+    /**
+     * Returns the key of a resource in the disk cache, built from its metadata
+     * only, so that the content is read only when the sprite is not cached.
+     * The modification time of a resource inside a jar is the one of the jar.
+     */
+    private static String resourceKey(final String name) throws IOException {
+        final URL url = ClassLoader.getSystemResource(name);
+        if (Objects.isNull(url)) {
+            throw new IllegalArgumentException("Couldn't locate image with name: " + name);
+        }
+        final URLConnection connection = url.openConnection();
+        // the stream is opened only to be closed, so that a jar connection releases the jar file
+        final InputStream stream = connection.getInputStream();
+        try {
+            return SpriteDiskCache.key(name, connection.getContentLengthLong(), connection.getLastModified());
+        } finally {
+            stream.close();
+        }
+    }
+
+    private static byte[] readResource(final String name) throws IOException {
+        try (InputStream stream = ClassLoader.getSystemResourceAsStream(name)) {
+            if (Objects.isNull(stream)) {
+                throw new IllegalArgumentException("Couldn't locate image with name: " + name);
+            }
+            return stream.readAllBytes();
+        }
+    }
+
+    private static BufferedImage decode(final String name, final byte[] content) throws IOException {
+        final BufferedImage image = ImageIO.read(new ByteArrayInputStream(content));
+        if (Objects.isNull(image)) {
+            throw new IllegalArgumentException("Unsupported image format: " + name);
+        }
+        return image;
+    }
+
+    private static BufferedImage toCompatible(final BufferedImage image) {
+        final BufferedImage compatible = createCompatibleImage(
+            image.getWidth(),
+            image.getHeight(),
+            image.getTransparency()
+        );
+        final Graphics2D g2d = compatible.createGraphics();
+        g2d.drawImage(image, 0, 0, null);
+        g2d.dispose();
+        return compatible;
+    }
+
+    /**
+     * Key of a scaled sprite in the cache.
+     *
+     * @param name the resource name
+     * @param cellSize the side of a cell in pixels
+     * @param size the size in cells of the sprite
+     */
+    private record SpriteKey(String name, double cellSize, double size) {
     }
 }
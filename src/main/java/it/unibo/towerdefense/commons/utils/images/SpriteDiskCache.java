@@ -0,0 +1,202 @@
+package it.unibo.towerdefense.commons.utils.images;
+
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.hash.Hashing;
+
+import it.unibo.towerdefense.commons.Constants;
+import it.unibo.towerdefense.commons.utils.file.FileUtils;
+
+/**
+ * On-disk cache of already scaled sprites.
+ *
+ * Each entry is keyed by the hash of the name, length and modification time
+ * of the original resource and by the target size in pixels, and stores the raw
+ * ARGB pixels compressed with Deflate.
+ * Entries are validated on load against the expected key and a checksum of
+ * the pixels, any invalid entry is treated as missing.
+ */
+final class SpriteDiskCache {
+
+    /**
+     * The default folder of the cache.
+     */
+    static final String DEFAULT_FOLDER = Constants.GAME_FOLDER
+            + File.separator
+            + "sprites";
+
+    private static final int MAGIC = 0x54445350; // "TDSP"
+    private static final int VERSION = 2;
+    private static final int MAX_SIDE = 16_384;
+    private static final String EXTENSION = ".sprite";
+
+    private final Logger logger =
+        LoggerFactory.getLogger(SpriteDiskCache.class);
+    private final String folderPath;
+
+    /**
+     * Constructor with the folder containing the cache.
+     *
+     * @param folderPath the folder of the cache, created on the first store
+     */
+    SpriteDiskCache(final String folderPath) {
+        this.folderPath = folderPath;
+    }
+
+    /**
+     * Returns the hash identifying a version of a resource from its metadata.
+     *
+     * @param name the name of the resource
+     * @param length the length in bytes of the resource
+     * @param lastModified the modification time of the resource
+     * @return the hash as an hexadecimal string
+     */
+    static String key(final String name, final long length, final long lastModified) {
+        return Hashing.sha256().newHasher()
+            .putString(name, StandardCharsets.UTF_8)
+            .putLong(length)
+            .putLong(lastModified)
+            .hash()
+            .toString();
+    }
+
+    /**
+     * Loads a sprite from the cache.
+     *
+     * @param hash the hash identifying the original resource
+     * @param targetSize the size in pixels of the longest side of the sprite
+     * @return the sprite, or an empty optional if it is missing or invalid
+     */
+    Optional<BufferedImage> load(final String hash, final int targetSize) {
+        final Path path = this.entryPath(hash, targetSize);
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            return read(in, hash, targetSize);
+        } catch (final IOException e) {
+            logger.warn("Discarding invalid cached sprite " + path, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores a sprite in the cache, failures are logged and ignored.
+     *
+     * @param hash the hash identifying the original resource
+     * @param targetSize the size in pixels of the longest side of the sprite
+     * @param image the scaled sprite
+     */
+    void store(final String hash, final int targetSize, final BufferedImage image) {
+        final Path path = this.entryPath(hash, targetSize);
+        try {
+            FileUtils.createFolder(this.folderPath);
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                write(out, hash, targetSize, image);
+            }
+            // replace the entry at once, so that readers never see half written entries
+            FileUtils.writeFileAtomically(path.toString(), bytes.toByteArray());
+        } catch (final IOException e) {
+            logger.warn("Unable to cache sprite " + path, e);
+        }
+    }
+
+    private Path entryPath(final String hash, final int targetSize) {
+        return Paths.get(this.folderPath, hash + "-" + targetSize + EXTENSION);
+    }
+
+    private static void write(
+        final DataOutputStream out,
+        final String hash,
+        final int targetSize,
+        final BufferedImage image
+    ) throws IOException {
+        final int width = image.getWidth();
+        final int height = image.getHeight();
+        final byte[] pixels = toBytes(image.getRGB(0, 0, width, height, null, 0, width));
+        // header
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeUTF(hash);
+        out.writeInt(targetSize);
+        out.writeInt(width);
+        out.writeInt(height);
+        out.writeInt(image.getTransparency());
+        out.writeLong(checksum(pixels));
+        out.flush();
+        // compressed pixels
+        final DeflaterOutputStream deflater = new DeflaterOutputStream(out);
+        deflater.write(pixels);
+        deflater.finish();
+    }
+
+    private static Optional<BufferedImage> read(
+        final DataInputStream in,
+        final String hash,
+        final int targetSize
+    ) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != VERSION
+            || !hash.equals(in.readUTF()) || in.readInt() != targetSize) {
+            return Optional.empty();
+        }
+        final int width = in.readInt();
+        final int height = in.readInt();
+        final int transparency = in.readInt();
+        final long checksum = in.readLong();
+        if (width <= 0 || height <= 0 || width > MAX_SIDE || height > MAX_SIDE) {
+            return Optional.empty();
+        }
+        final int length = width * height * Integer.BYTES;
+        final InputStream inflater = new InflaterInputStream(in);
+        final byte[] pixels = inflater.readNBytes(length);
+        if (pixels.length != length || checksum(pixels) != checksum) {
+            return Optional.empty();
+        }
+        final BufferedImage image = new BufferedImage(
+            width,
+            height,
+            transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB
+        );
+        image.setRGB(0, 0, width, height, toInts(pixels), 0, width);
+        return Optional.of(image);
+    }
+
+    private static byte[] toBytes(final int[] pixels) {
+        final ByteBuffer buffer = ByteBuffer.allocate(pixels.length * Integer.BYTES);
+        buffer.asIntBuffer().put(pixels);
+        return buffer.array();
+    }
+
+    private static int[] toInts(final byte[] bytes) {
+        final int[] pixels = new int[bytes.length / Integer.BYTES];
+        ByteBuffer.wrap(bytes).asIntBuffer().get(pixels);
+        return pixels;
+    }
+
+    private static long checksum(final byte[] bytes) {
+        final CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,34 @@
+package it.unibo.towerdefense.commons.utils.random;
+
+import java.util.Random;
+
+/**
+ * Interface that models the randomness of a game session.
+ * Every part of the game draws from its own named stream, split from a single seed,
+ * so that the same seed always produces the same sequences, whatever order
+ * the streams are used in.
+ */
+public interface RandomStreams {
+
+    /**
+     * Returns the seed of the session.
+     * @return the seed
+     */
+    long getSeed();
+
+    /**
+     * Returns a new random generator for the named stream.
+     * @param name the name of the stream
+     * @return the random generator, starting from the beginning of the stream
+     */
+    Random stream(String name);
+
+    /**
+     * Returns a new random generator for an indexed sub-stream of the named stream,
+     * e.g. one for each wave, so that it does not depend on the previous sub-streams.
+     * @param name the name of the stream
+     * @param index the index of the sub-stream
+     * @return the random generator, starting from the beginning of the sub-stream
+     */
+    Random stream(String name, long index);
+}
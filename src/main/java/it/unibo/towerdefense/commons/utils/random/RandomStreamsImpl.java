@@ -0,0 +1,68 @@
+package it.unibo.towerdefense.commons.utils.random;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Class implementing the RandomStreams interface.
+ * The seed of each stream is derived from the session seed, the hash of the
+ * stream name and the index with the SplitMix64 mixing function.
+ */
+public class RandomStreamsImpl implements RandomStreams {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final long MIX_MULTIPLIER_1 = 0xbf58476d1ce4e5b9L;
+    private static final long MIX_MULTIPLIER_2 = 0x94d049bb133111ebL;
+    private static final int MIX_SHIFT_1 = 30;
+    private static final int MIX_SHIFT_2 = 27;
+    private static final int MIX_SHIFT_3 = 31;
+
+    private final long seed;
+
+    /**
+     * Constructor with the seed of the session.
+     * @param seed the seed
+     */
+    public RandomStreamsImpl(final long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Zero-argument constructor, for a session with a random seed.
+     */
+    public RandomStreamsImpl() {
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Random stream(final String name) {
+        return this.stream(name, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Random stream(final String name, final long index) {
+        final long streamSeed = mix(this.seed + GOLDEN_GAMMA * name.hashCode());
+        return new Random(mix(streamSeed + GOLDEN_GAMMA * (index + 1)));
+    }
+
+    private static long mix(final long value) {
+        long z = value;
+        z = (z ^ (z >>> MIX_SHIFT_1)) * MIX_MULTIPLIER_1;
+        z = (z ^ (z >>> MIX_SHIFT_2)) * MIX_MULTIPLIER_2;
+        return z ^ (z >>> MIX_SHIFT_3);
+    }
+}
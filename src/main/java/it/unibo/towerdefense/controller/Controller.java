@@ -1,5 +1,7 @@
 package it.unibo.towerdefense.controller;
 
+import java.util.concurrent.CompletableFuture;
+
 import it.unibo.towerdefense.commons.engine.Size;
 import it.unibo.towerdefense.model.saves.Save;
 
@@ -33,8 +35,9 @@ public interface Controller {
 
     /**
      * Save the game.
+     * @return a future completed with true once the save has been written, false if it failed
      */
-    void save();
+    CompletableFuture<Boolean> save();
 
     /**
      * Save and exit the game.
@@ -57,6 +60,13 @@ public interface Controller {
      */
     boolean isRunning();
 
+    /**
+     * Blocks the calling thread while the game is paused, without consuming any CPU,
+     * until it is resumed or a command of the player is issued, which is then applied.
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    void awaitRunning() throws InterruptedException;
+
     /**
      * Return if the process should terminate.
      * @return true if the game loop should stop.
@@ -74,12 +84,25 @@ public interface Controller {
     void displayScoreboard();
 
     /**
-     * Updates the state of the relative model.
+     * Returns if the game is on screen, the game loop doesn't render it otherwise.
+     * @return true if the game window is displayed
+     */
+    boolean isDisplayed();
+
+    /**
+     * Called by the game loop once it is over, after its last update.
+     */
+    void onGameLoopEnd();
+
+    /**
+     * Applies the commands issued by the player since the previous update,
+     * then updates the state of the relative model unless they paused it.
      */
     void update();
 
     /**
      * Renders the state of the relative model.
+     * @param alpha the fraction of the next update already elapsed, in [0, 1]
      */
-    void render();
+    void render(double alpha);
 }
@@ -1,6 +1,13 @@
 package it.unibo.towerdefense.controller;
 
+import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Stream;
 
 import org.slf4j.Logger;
@@ -16,21 +23,29 @@ import it.unibo.towerdefense.commons.dtos.game.GameDTO;
 import it.unibo.towerdefense.commons.dtos.map.CellInfo;
 import it.unibo.towerdefense.commons.engine.Position;
 import it.unibo.towerdefense.commons.engine.Size;
+import it.unibo.towerdefense.commons.utils.random.RandomStreamsImpl;
 import it.unibo.towerdefense.controller.gamelauncher.GameLauncherControllerImpl;
 import it.unibo.towerdefense.controller.gameloop.GameLoop;
 import it.unibo.towerdefense.controller.menu.StartMenuControllerImpl;
 import it.unibo.towerdefense.controller.saves.SavesControllerImpl;
 import it.unibo.towerdefense.controller.scoreboard.ScoreboardControllerImpl;
 import it.unibo.towerdefense.model.Model;
+import it.unibo.towerdefense.model.replay.Replay;
+import it.unibo.towerdefense.model.replay.ReplayCommand;
+import it.unibo.towerdefense.model.replay.ReplayImpl;
 import it.unibo.towerdefense.model.saves.Save;
 import it.unibo.towerdefense.view.View;
 
 /**
  * Class implementing the main controller of the game.
+ * The commands of the player are queued and applied by the game loop between
+ * two updates, so that in new games they are recorded, with the seed of the game,
+ * at the tick where they took effect in a replay which is written once the game stops.
  */
 public class ControllerImpl implements Controller {
 
     private static final Size MAP_SIZE = Constants.MAP_SIZE; // might be a variable in the future
+    private static final long SAVE_TIMEOUT_SECONDS = 5;
 
     private final Logger logger =
         LoggerFactory.getLogger(ControllerImpl.class);
@@ -38,9 +53,14 @@ public class ControllerImpl implements Controller {
     private final View view;
     @SuppressFBWarnings(value = "EI2", justification = "View is intentionally mutable and safe to store.")
     private final Model model;
+    // the commands of the player not yet applied, also used to wake the paused loop up
+    private final Queue<Runnable> commands = new ArrayDeque<>();
 
     private String playerName;
-    private boolean loopTerminated;
+    private volatile boolean loopTerminated;
+    private volatile GameLoop gameLoop;
+    private volatile long tick;
+    private volatile Replay replay;
 
     /**
      * Constructor for the ControllerImpl class.
@@ -73,6 +93,10 @@ public class ControllerImpl implements Controller {
         this.playerName = playerName;
         // display the game window
         this.view.displayWindow(resolution);
+        // resume rendering of the current game as soon as the window is restored
+        this.view.addDisplayObserver(displayed -> this.wakeUpGameLoop());
+        // load the images in background while the menu is displayed
+        this.view.preloadAssets(MAP_SIZE);
         // display the StartMenu
         final var menu = new StartMenuControllerImpl(this, this.view);
         menu.run();
@@ -84,8 +108,11 @@ public class ControllerImpl implements Controller {
     @Override
     public void start() {
         logger.info("start()");
-        // init the model with the player name and the map size
-        this.model.init(this.playerName, MAP_SIZE);
+        // init the model with the player name, the map size and the seed of the game
+        final long seed = new RandomStreamsImpl().getSeed();
+        this.model.init(this.playerName, MAP_SIZE, seed);
+        // record the commands of the player from the start of the game
+        this.replay = new ReplayImpl(this.playerName, MAP_SIZE, seed);
         this.afterStart();
     }
 
@@ -95,8 +122,9 @@ public class ControllerImpl implements Controller {
     @Override
     public void start(final Save save) {
         logger.info("start() with save");
-        // init the model with save
+        // init the model with save, the game is not recorded as it does not start from its seed
         this.model.init(save);
+        this.replay = null;
         this.afterStart();
         // close all open modals
         this.view.closeModals();
@@ -106,8 +134,8 @@ public class ControllerImpl implements Controller {
      * {@inheritDoc}
      */
     @Override
-    public void save() {
-        model.save();
+    public CompletableFuture<Boolean> save() {
+        return model.save();
     }
 
     /**
@@ -119,9 +147,23 @@ public class ControllerImpl implements Controller {
         if (Objects.isNull(this.model)) {
             throw new IllegalStateException("Game not started");
         }
-        // save the game and exit
+        // stop the loop and wait for its last update, so that the snapshot never races an update
         this.stop();
-        this.save();
+        try {
+            if (!this.joinGameLoop()) {
+                logger.warn("The game loop is still running, the game is saved anyway");
+            }
+            // save the game and wait for it to be written before exiting
+            if (!this.save().get(SAVE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.error("The game could not be saved");
+            }
+        } catch (final TimeoutException e) {
+            logger.warn("The game is still being saved", e);
+        } catch (final ExecutionException e) {
+            logger.error("Error saving the game", e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
         // exit
         this.exit();
     }
@@ -141,6 +183,11 @@ public class ControllerImpl implements Controller {
     @Override
     public void stop() {
         this.loopTerminated = true;
+        // wake the loop up if it is waiting, so that it terminates
+        final GameLoop loop = this.gameLoop;
+        if (Objects.nonNull(loop)) {
+            loop.interrupt();
+        }
     }
 
     /**
@@ -159,6 +206,28 @@ public class ControllerImpl implements Controller {
         return this.model.isPlaying();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void awaitRunning() throws InterruptedException {
+        synchronized (this.commands) {
+            while (this.commands.isEmpty() && !this.model.isPlaying() && !this.loopTerminated) {
+                this.commands.wait();
+            }
+        }
+        // the game is not updated while paused, so the commands are applied at the same tick
+        this.applyCommands();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isDisplayed() {
+        return this.view.isDisplayed();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -188,14 +257,35 @@ public class ControllerImpl implements Controller {
      */
     @Override
     public void update() {
-        model.update();
+        this.applyCommands();
+        // a command might have paused the game
+        if (model.isPlaying()) {
+            model.update();
+            this.tick++;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * When the game is over its replay is written, ending with the update which
+     * ended the game: the commands issued meanwhile never take effect.
+     */
+    @Override
+    public void onGameLoopEnd() {
+        if (model.isGameOver()) {
+            synchronized (this.commands) {
+                this.commands.clear();
+            }
+            this.writeReplay();
+        }
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void render() {
+    public void render(final double alpha) {
+        final long currentTick = this.tick;
         view.render(new GameState() {
             @Override
             public Stream<EnemyInfo> getEnemies() {
@@ -209,6 +299,14 @@ public class ControllerImpl implements Controller {
             public Stream<DefenseDescription> getDefenses() {
                 return model.getDefensesDTOs();
             }
+            @Override
+            public long getTick() {
+                return currentTick;
+            }
+            @Override
+            public double getInterpolation() {
+                return alpha;
+            }
         });
     }
 
@@ -216,9 +314,27 @@ public class ControllerImpl implements Controller {
         // set game to playing
         this.model.resume();
         // initialize game loop and start it
-        final GameLoop.Builder gameLoopBuilder = new GameLoop.Builder();
-        final GameLoop gameLoop = gameLoopBuilder.build(this);
-        gameLoop.start();
+        final GameLoop.Builder gameLoopBuilder = new GameLoop.Builder()
+            .hiddenUpdatesPerSecond(Constants.HIDDEN_UPDATES_PER_SECOND)
+            .framesPerSecond(this.view.getRefreshRate());
+        this.gameLoop = gameLoopBuilder.build(this);
+        this.gameLoop.start();
+    }
+
+    /**
+     * Waits for the game loop to end, once stopped.
+     * @return true if the loop is over
+     */
+    private boolean joinGameLoop() throws InterruptedException {
+        final GameLoop loop = this.gameLoop;
+        return Objects.isNull(loop) || loop.join(TimeUnit.SECONDS.toMillis(SAVE_TIMEOUT_SECONDS));
+    }
+
+    private void wakeUpGameLoop() {
+        final GameLoop loop = this.gameLoop;
+        if (Objects.nonNull(loop)) {
+            loop.wakeUp();
+        }
     }
 
     private void handleGameChange(final GameDTO dto) {
@@ -247,19 +363,25 @@ public class ControllerImpl implements Controller {
         // save score
         final var score = model.saveScore();
         // display game over
-        this.view.displayGameOver(score.toDTO());
+        this.view.displayGameOver(score);
     }
 
     private void handleCellSelection(final Position position) {
-        if (model.isPlaying()) {
-            model.selectCell(position);
-            updateBuyMenu();
-        }
+        this.post(() -> {
+            if (model.isPlaying()) {
+                this.record(ReplayCommand.cellSelection(this.tick, position));
+                model.selectCell(position);
+                updateBuyMenu();
+            }
+        });
     }
 
     private void handleDefenseBuild(final int index) {
-        model.build(index);
-        updateBuyMenu();
+        this.post(() -> {
+            this.record(ReplayCommand.defenseBuild(this.tick, index));
+            model.build(index);
+            updateBuyMenu();
+        });
     }
 
     private void updateBuyMenu() {
@@ -276,23 +398,92 @@ public class ControllerImpl implements Controller {
         this.view.addControlsObserver((action) -> this.handleControls(action));
         // initialize model observers
         this.model.addGameObserver(this::handleGameChange);
+        // start first wave, which begins with the first update of the game loop
+        this.model.startWave();
         // start game loop
         this.startGameLoop();
-        // start first wave
-        this.model.startWave();
     }
 
     private void handleControls(final ControlAction action) {
-        // handle quit
         if (action.equals(ControlAction.QUIT)) {
-            // if is still playing save before exiting
-            if (!model.isGameOver()) {
-                this.saveAndExit();
-            } else {
-                this.exit();
+            this.quit();
+        } else {
+            this.post(() -> {
+                this.record(ReplayCommand.control(this.tick, action));
+                this.model.handleControls(action);
+            });
+        }
+    }
+
+    private void quit() {
+        // stop the loop and wait for its last update, so that quitting is recorded after it
+        this.stop();
+        boolean joined = false;
+        try {
+            joined = this.joinGameLoop();
+            if (!joined) {
+                logger.warn("The game loop is still running, the game is quit anyway");
             }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // a game over has already been recorded once its loop ended
+        if (joined && !model.isGameOver()) {
+            // the commands issued before quitting are still applied and recorded
+            this.applyCommands();
+            this.record(ReplayCommand.control(this.tick, ControlAction.QUIT));
+            this.writeReplay();
+        }
+        // if is still playing save before exiting
+        if (!model.isGameOver()) {
+            this.saveAndExit();
+        } else {
+            this.exit();
         }
         // update model
-        this.model.handleControls(action);
+        this.model.handleControls(ControlAction.QUIT);
+    }
+
+    /**
+     * Queues a command of the player, which is applied by the game loop before its next update.
+     */
+    private void post(final Runnable command) {
+        synchronized (this.commands) {
+            this.commands.add(command);
+            this.commands.notifyAll();
+        }
+    }
+
+    private void applyCommands() {
+        for (Runnable command = this.pollCommand(); Objects.nonNull(command); command = this.pollCommand()) {
+            command.run();
+        }
+    }
+
+    private Runnable pollCommand() {
+        synchronized (this.commands) {
+            return this.commands.poll();
+        }
+    }
+
+    private void record(final ReplayCommand command) {
+        final Replay current = this.replay;
+        if (Objects.nonNull(current)) {
+            current.record(command);
+        }
+    }
+
+    private synchronized void writeReplay() {
+        final Replay current = this.replay;
+        if (Objects.isNull(current)) {
+            return;
+        }
+        this.replay = null;
+        current.end(this.tick);
+        try {
+            logger.info("Replay written to {}", current.write());
+        } catch (final IOException e) {
+            logger.warn("Error writing the replay", e);
+        }
     }
 }
@@ -3,6 +3,7 @@ package it.unibo.towerdefense.controller.gamelauncher;
 import java.util.List;
 
 import it.unibo.towerdefense.commons.engine.Size;
+import it.unibo.towerdefense.view.graphics.Interpolation;
 
 /**
  * Interface that defines the GameLauncherController methods.
@@ -28,6 +29,32 @@ public interface GameLauncherController {
      */
     void selectResolution(int selection);
 
+    /**
+     * Get available render scales of the game world.
+     * @return a list of scales, relative to the size of the canvas
+     */
+    List<Double> getRenderScales();
+
+    /**
+     * Select the scale at which the game world is rendered.
+     * @param selection the index of the render scale
+     * @throws IllegalArgumentException if the selection is out of bounds
+     */
+    void selectRenderScale(int selection);
+
+    /**
+     * Get available interpolations used to upscale the game world.
+     * @return a list of interpolations
+     */
+    List<Interpolation> getInterpolations();
+
+    /**
+     * Select the interpolation used to upscale the game world.
+     * @param selection the index of the interpolation
+     * @throws IllegalArgumentException if the selection is out of bounds
+     */
+    void selectInterpolation(int selection);
+
     /**
      * Saves player's name.
      * @param name the player's name
@@ -1,5 +1,6 @@
 package it.unibo.towerdefense.controller.gamelauncher;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.BiConsumer;
@@ -8,6 +9,7 @@ import java.util.function.Consumer;
 import it.unibo.towerdefense.commons.Constants;
 import it.unibo.towerdefense.commons.engine.Size;
 import it.unibo.towerdefense.view.View;
+import it.unibo.towerdefense.view.graphics.Interpolation;
 
 /**
  * Implementation of the GameLauncherController interface.
@@ -17,9 +19,13 @@ public class GameLauncherControllerImpl implements GameLauncherController {
     private final List<Size> resolutions;
     private final Consumer<GameLauncherController> run;
     private final BiConsumer<String, Size> start;
+    private final BiConsumer<Double, Interpolation> renderSettings;
+    private final List<Interpolation> interpolations = Arrays.asList(Interpolation.values());
 
     private String playerName;
     private int resolution;
+    private int renderScale;
+    private int interpolation = Interpolation.BILINEAR.ordinal();
 
     /**
      * Constructor for the GameLauncherControllerImpl class.
@@ -29,6 +35,7 @@ public class GameLauncherControllerImpl implements GameLauncherController {
     public GameLauncherControllerImpl(final View view, final BiConsumer<String, Size> start) {
         this.start = start;
         this.run = controller -> view.displayLauncher(controller);
+        this.renderSettings = (scale, interpolation) -> view.setRenderScale(scale, interpolation);
         // set resolutions
         final Size maxResolution = view.getMaxResolution();
         this.resolutions = Constants.RESOLUTIONS.stream()
@@ -65,6 +72,44 @@ public class GameLauncherControllerImpl implements GameLauncherController {
         this.resolution = selection;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Double> getRenderScales() {
+        return Constants.RENDER_SCALES;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void selectRenderScale(final int selection) {
+        if (selection < 0 || selection >= Constants.RENDER_SCALES.size()) {
+            throw new IllegalArgumentException("Invalid render scale selection");
+        }
+        this.renderScale = selection;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Interpolation> getInterpolations() {
+        return Collections.unmodifiableList(this.interpolations);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void selectInterpolation(final int selection) {
+        if (selection < 0 || selection >= this.interpolations.size()) {
+            throw new IllegalArgumentException("Invalid interpolation selection");
+        }
+        this.interpolation = selection;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -84,6 +129,10 @@ public class GameLauncherControllerImpl implements GameLauncherController {
      */
     @Override
     public void startGame() {
+        this.renderSettings.accept(
+            Constants.RENDER_SCALES.get(renderScale),
+            this.interpolations.get(interpolation)
+        );
         this.start.accept(
             playerName,
             this.resolutions.get(resolution)
@@ -1,5 +1,8 @@
 package it.unibo.towerdefense.controller.gameloop;
 
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -7,17 +10,30 @@ import it.unibo.towerdefense.controller.Controller;
 
 /**
  * GameLoop implementation.
+ * The model is updated at a fixed rate, while frames are rendered at their own
+ * rate, usually the refresh rate of the display: each frame is told the fraction
+ * of the next update already elapsed, so that motion can be interpolated.
  */
 public class GameLoop implements Runnable {
 
     private static final String THREAD_NAME = "GameLoop";
     private static final int UPDATES_PER_SECOND = 60;
     private static final int MILLISECONDS_IN_SECOND = 1000;
-    private static final int UPDATE_RATE = MILLISECONDS_IN_SECOND / UPDATES_PER_SECOND;
+    private static final long NANOSECONDS_IN_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long UPDATE_RATE = NANOSECONDS_IN_SECOND / UPDATES_PER_SECOND;
+    /*
+     * Maximum number of updates run to catch up before rendering a frame,
+     * so that a slow frame doesn't make the following ones slower.
+     */
+    private static final int MAX_UPDATES_PER_FRAME = 5;
 
     private final Logger logger =
         LoggerFactory.getLogger(GameLoop.class);
     private final Controller controller;
+    private final long hiddenUpdateRate;
+    private final long frameRate;
+    private final Object wakeUpLock = new Object();
+    private Thread thread;
     private long nextStatTime;
     private int fps, ups;
 
@@ -26,7 +42,13 @@ public class GameLoop implements Runnable {
      * @param controller the game controller
      */
     public GameLoop(final Controller controller) {
+        this(controller, UPDATES_PER_SECOND, UPDATES_PER_SECOND);
+    }
+
+    private GameLoop(final Controller controller, final int hiddenUpdatesPerSecond, final int framesPerSecond) {
         this.controller = controller;
+        this.hiddenUpdateRate = NANOSECONDS_IN_SECOND / hiddenUpdatesPerSecond;
+        this.frameRate = NANOSECONDS_IN_SECOND / framesPerSecond;
     }
 
     /**
@@ -34,14 +56,59 @@ public class GameLoop implements Runnable {
      */
     @Override
     public void run() {
-        this.mainLoop();
+        try {
+            this.mainLoop();
+        } finally {
+            this.controller.onGameLoopEnd();
+        }
     }
 
     /**
      * Start the game loop.
      */
-    public void start() {
-        new Thread(this, THREAD_NAME).start();
+    public synchronized void start() {
+        this.thread = new Thread(this, THREAD_NAME);
+        this.thread.start();
+    }
+
+    /**
+     * Interrupts the loop if it is waiting, so that it checks immediately
+     * whether the game was terminated.
+     * It has no effect when called by the loop itself, which checks it anyway.
+     */
+    public synchronized void interrupt() {
+        if (Objects.nonNull(this.thread) && !Thread.currentThread().equals(this.thread)) {
+            this.thread.interrupt();
+        }
+    }
+
+    /**
+     * Waits for the loop to end, once the game has been terminated.
+     * It returns immediately when called by the loop itself.
+     * @param timeoutMillis the maximum time to wait, in milliseconds
+     * @return true if the loop is over or was never started, false if it is still running
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public boolean join(final long timeoutMillis) throws InterruptedException {
+        final Thread loop;
+        synchronized (this) {
+            loop = this.thread;
+        }
+        if (Objects.isNull(loop) || Thread.currentThread().equals(loop)) {
+            return Objects.isNull(loop);
+        }
+        loop.join(timeoutMillis);
+        return !loop.isAlive();
+    }
+
+    /**
+     * Wakes the loop up if it is waiting while the game is not displayed,
+     * so that rendering resumes immediately.
+     */
+    public void wakeUp() {
+        synchronized (this.wakeUpLock) {
+            this.wakeUpLock.notifyAll();
+        }
     }
 
     /**
@@ -49,19 +116,40 @@ public class GameLoop implements Runnable {
      */
     private void mainLoop() {
         this.nextStatTime = System.currentTimeMillis() + (int) MILLISECONDS_IN_SECOND;
-        long current = System.currentTimeMillis();
         // while game is running update state and render
         while (!this.controller.isTerminated()) {
-            while (this.controller.isRunning()) {
-                current = System.currentTimeMillis();
-                this.update();
-                this.render();
-                this.printStats();
-                this.waitForNextFrame(current);
+            long previous = System.nanoTime();
+            // time elapsed and not yet simulated
+            long lag = 0;
+            while (this.controller.isRunning() && !this.controller.isTerminated()) {
+                final long current = System.nanoTime();
+                // rendering is skipped entirely while the window is not on screen
+                if (this.controller.isDisplayed()) {
+                    lag += current - previous;
+                    int updates = 0;
+                    while (lag >= UPDATE_RATE && updates < MAX_UPDATES_PER_FRAME
+                            && this.controller.isRunning() && !this.controller.isTerminated()) {
+                        this.update();
+                        lag -= UPDATE_RATE;
+                        updates++;
+                    }
+                    // drop the time which couldn't be caught up
+                    lag = Math.min(lag, UPDATE_RATE);
+                    this.render((double) lag / UPDATE_RATE);
+                    this.printStats();
+                    this.waitForNextFrame(current);
+                } else {
+                    this.update();
+                    lag = 0;
+                    this.printStats();
+                    this.waitWhileHidden(current);
+                }
+                previous = current;
+            }
+            // park the thread until the game is resumed or over
+            if (!this.controller.isTerminated()) {
+                this.waitWhilePaused();
             }
-            // skip a frame if the game is paused
-            this.waitForNextFrame(current + UPDATE_RATE);
-            current = System.currentTimeMillis();
         }
     }
 
@@ -79,18 +167,50 @@ public class GameLoop implements Runnable {
         this.controller.update();
     }
 
-    private void render() {
+    private void render(final double alpha) {
         this.fps++;
-        this.controller.render();
+        this.controller.render(alpha);
     }
 
     private void waitForNextFrame(final long current) {
-        final long dt = System.currentTimeMillis() - current;
-        if (dt < UPDATE_RATE) {
+        final long dt = System.nanoTime() - current;
+        if (dt < this.frameRate) {
             try {
-                Thread.sleep(UPDATE_RATE - dt);
+                TimeUnit.NANOSECONDS.sleep(this.frameRate - dt);
             } catch (final InterruptedException e) {
-                logger.error("Error during waitForNextFrame()", e);
+                // the loop is interrupted when the game is stopped
+                Thread.currentThread().interrupt();
+                logger.debug("GameLoop interrupted while waiting for the next frame");
+            }
+        }
+    }
+
+    private void waitWhilePaused() {
+        try {
+            this.controller.awaitRunning();
+        } catch (final InterruptedException e) {
+            logger.debug("GameLoop interrupted while paused");
+        }
+    }
+
+    /**
+     * Waits for the next update at the rate used while the game is not displayed,
+     * returning early as soon as it is displayed again.
+     */
+    private void waitWhileHidden(final long current) {
+        final long deadline = current + this.hiddenUpdateRate;
+        synchronized (this.wakeUpLock) {
+            long remaining = deadline - System.nanoTime();
+            while (remaining > 0 && !this.controller.isDisplayed()) {
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(this.wakeUpLock, remaining);
+                } catch (final InterruptedException e) {
+                    // the loop is interrupted when the game is stopped
+                    Thread.currentThread().interrupt();
+                    logger.debug("GameLoop interrupted while hidden");
+                    return;
+                }
+                remaining = deadline - System.nanoTime();
             }
         }
     }
@@ -101,6 +221,37 @@ public class GameLoop implements Runnable {
     public static class Builder {
 
         private boolean consumed;
+        private int hiddenUpdatesPerSecond = UPDATES_PER_SECOND;
+        private int framesPerSecond = UPDATES_PER_SECOND;
+
+        /**
+         * Sets the number of frames rendered per second, which can be higher than
+         * the number of updates since motion is interpolated between them.
+         * @param framesPerSecond the rate, usually the refresh rate of the display
+         * @return this builder
+         */
+        public Builder framesPerSecond(final int framesPerSecond) {
+            if (framesPerSecond <= 0) {
+                throw new IllegalArgumentException("Frames per second must be > 0");
+            }
+            this.framesPerSecond = framesPerSecond;
+            return this;
+        }
+
+        /**
+         * Sets the number of updates per second while the game is not displayed.
+         * @param updatesPerSecond the rate, between 1 and the normal rate of the loop
+         * @return this builder
+         */
+        public Builder hiddenUpdatesPerSecond(final int updatesPerSecond) {
+            if (updatesPerSecond <= 0 || updatesPerSecond > UPDATES_PER_SECOND) {
+                throw new IllegalArgumentException(
+                    "Hidden updates per second must be in [1, " + UPDATES_PER_SECOND + "]"
+                );
+            }
+            this.hiddenUpdatesPerSecond = updatesPerSecond;
+            return this;
+        }
 
         /**
          * Build the GameLoop.
@@ -112,7 +263,7 @@ public class GameLoop implements Runnable {
                 throw new IllegalStateException("The builder can only be used once");
             }
             this.consumed = true;
-            return new GameLoop(controller);
+            return new GameLoop(controller, this.hiddenUpdatesPerSecond, this.framesPerSecond);
         }
     }
 }
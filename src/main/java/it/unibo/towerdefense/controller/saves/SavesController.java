@@ -1,7 +1,6 @@
 package it.unibo.towerdefense.controller.saves;
 
-import java.util.List;
-
+import it.unibo.towerdefense.commons.api.PagedSource;
 import it.unibo.towerdefense.model.saves.Save;
 
 /**
@@ -15,10 +14,10 @@ public interface SavesController {
     void run();
 
     /**
-     * Returns the saves to display.
-     * @return the list of saves to display
+     * Returns the saves to display, fetched a page at a time.
+     * @return the paged source of saves to display
      */
-    List<Save> getSaves();
+    PagedSource<Save> getSaves();
 
     /**
      * Starts a new game with the given save.
@@ -2,10 +2,12 @@ package it.unibo.towerdefense.controller.saves;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
-import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Consumer;
 
+import it.unibo.towerdefense.commons.api.PagedSource;
+import it.unibo.towerdefense.model.saves.AutosaveImpl;
 import it.unibo.towerdefense.model.saves.Save;
 import it.unibo.towerdefense.model.saves.SavesImpl;
 import it.unibo.towerdefense.view.View;
@@ -17,7 +19,7 @@ public class SavesControllerImpl implements SavesController {
 
     private final Consumer<Save> start;
     private final Consumer<SavesController> run;
-    private final List<Save> saves;
+    private final PagedSource<Save> saves;
 
     /**
      * Loads saves from the SavesController.
@@ -35,7 +37,12 @@ public class SavesControllerImpl implements SavesController {
         // load saves
         try {
             final var saveLoader = new SavesImpl(playerName);
-            this.saves = saveLoader.loadSaves();
+            final PagedSource<Save> loaded = saveLoader.listSaves();
+            // offer the latest autosave if the game was not saved afterwards, e.g. after a crash
+            final List<Save> latest = loaded.getPage(loaded.size() - 1, 1);
+            final Optional<Save> autosave = new AutosaveImpl(playerName).loadLatest()
+                .filter(a -> latest.stream().allMatch(s -> s.getDate().before(a.getDate())));
+            this.saves = autosave.map(a -> loaded.append(List.of(a))).orElse(loaded);
         } catch (final IOException e) {
            throw new UncheckedIOException("Error while loading saves", e);
         }
@@ -45,8 +52,8 @@ public class SavesControllerImpl implements SavesController {
      * {@inheritDoc}
      */
     @Override
-    public List<Save> getSaves() {
-        return Collections.unmodifiableList(this.saves);
+    public PagedSource<Save> getSaves() {
+        return this.saves;
     }
 
     /**
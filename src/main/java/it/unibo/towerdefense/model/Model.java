@@ -1,6 +1,7 @@
 package it.unibo.towerdefense.model;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 import it.unibo.towerdefense.commons.dtos.defenses.DefenseDescription;
@@ -9,11 +10,11 @@ import it.unibo.towerdefense.commons.dtos.game.ControlAction;
 import it.unibo.towerdefense.commons.dtos.game.GameDTO;
 import it.unibo.towerdefense.commons.dtos.map.BuildingOption;
 import it.unibo.towerdefense.commons.dtos.map.CellInfo;
+import it.unibo.towerdefense.commons.dtos.score.ScoreDTO;
 import it.unibo.towerdefense.commons.engine.Position;
 import it.unibo.towerdefense.commons.engine.Size;
 import it.unibo.towerdefense.commons.patterns.Observer;
 import it.unibo.towerdefense.model.saves.Save;
-import it.unibo.towerdefense.model.scoreboard.Score;
 
 /**
  * Interface that represents the main model.
@@ -29,6 +30,15 @@ public interface Model {
      */
     void init(String playerName, Size mapSize);
 
+    /**
+     * Initialize the model with the seed of its randomness,
+     * the same seed always generates the same map and waves.
+     * @param playerName the player name
+     * @param mapSize the size of the map
+     * @param seed the seed
+     */
+    void init(String playerName, Size mapSize, long seed);
+
     /**
      * Initialize the model from a save object.
      * @param save the save object
@@ -112,12 +122,17 @@ public interface Model {
 
     /**
      * Saves the score.
-     * @return the saved score
+     * @return the saved score, with its rank in the scoreboard
      */
-    Score saveScore();
+    ScoreDTO saveScore();
 
     /**
      * Saves the game.
+     * The game state is captured on the calling thread, while the save
+     * is encoded and written to disk in background: the model must not be
+     * updated meanwhile, so it is called between updates or once the game loop is over.
+     * Once the save is written the autosaves of the game are deleted, since they are older.
+     * @return a future completed with true if the save has been written, false otherwise
      */
-    void save();
+    CompletableFuture<Boolean> save();
 }
@@ -5,6 +5,7 @@ import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -14,8 +15,11 @@ import it.unibo.towerdefense.commons.dtos.game.ControlAction;
 import it.unibo.towerdefense.commons.dtos.game.GameDTO;
 import it.unibo.towerdefense.commons.dtos.map.BuildingOption;
 import it.unibo.towerdefense.commons.dtos.map.CellInfo;
+import it.unibo.towerdefense.commons.dtos.score.ScoreDTO;
 import it.unibo.towerdefense.commons.engine.Position;
 import it.unibo.towerdefense.commons.engine.Size;
+import it.unibo.towerdefense.commons.utils.random.RandomStreams;
+import it.unibo.towerdefense.commons.utils.random.RandomStreamsImpl;
 import it.unibo.towerdefense.commons.patterns.Observer;
 import it.unibo.towerdefense.model.defenses.DefenseManager;
 import it.unibo.towerdefense.model.defenses.DefenseManagerImpl;
@@ -26,11 +30,14 @@ import it.unibo.towerdefense.model.game.GameManagerImpl;
 import it.unibo.towerdefense.model.game.GameStatus;
 import it.unibo.towerdefense.model.map.MapManager;
 import it.unibo.towerdefense.model.map.MapManagerImpl;
+import it.unibo.towerdefense.model.saves.Autosave;
+import it.unibo.towerdefense.model.saves.AutosaveImpl;
 import it.unibo.towerdefense.model.saves.Save;
 import it.unibo.towerdefense.model.saves.SaveFieldsEnum;
 import it.unibo.towerdefense.model.saves.SaveImpl;
+import it.unibo.towerdefense.model.saves.SaveWriterImpl;
 import it.unibo.towerdefense.model.saves.SavesImpl;
-import it.unibo.towerdefense.model.scoreboard.Score;
+import it.unibo.towerdefense.model.scoreboard.Scoreboard;
 import it.unibo.towerdefense.model.scoreboard.ScoreboardImpl;
 
 /**
@@ -42,19 +49,50 @@ public class ModelImpl implements ModelManager, Model {
     private DefenseManager defenses;
     private EnemiesManager enemies;
     private GameManager game;
+    private Autosave autosave;
+    private final boolean autosaving;
     private boolean initialized;
     private Save save;
+    // loaded once and kept across games, saving a score only reads the records appended meanwhile
+    private Scoreboard scoreboard;
+
+    /**
+     * Zero-argument constructor, for games which are autosaved.
+     */
+    public ModelImpl() {
+        this(true);
+    }
+
+    /**
+     * Constructor choosing whether games are autosaved.
+     * Headless games, such as replays, are not autosaved so that
+     * they never touch the autosaves of the player.
+     * @param autosaving true if games are autosaved
+     */
+    public ModelImpl(final boolean autosaving) {
+        this.autosaving = autosaving;
+    }
 
     /**
      * {@inheritDoc}
      */
     @Override
     public void init(final String playerName, final Size cellSize) {
+        this.init(playerName, cellSize, new RandomStreamsImpl().getSeed());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void init(final String playerName, final Size cellSize, final long seed) {
+        // every random part of the game draws from the streams of the same seed
+        final RandomStreams random = new RandomStreamsImpl(seed);
         // init model managers
-        map = new MapManagerImpl(cellSize);
+        map = new MapManagerImpl(cellSize, random);
         defenses = new DefenseManagerImpl();
-        enemies = new EnemiesManagerImpl();
-        game = new GameManagerImpl(playerName);
+        enemies = new EnemiesManagerImpl(random);
+        game = new GameManagerImpl(playerName, seed);
         // bind managers
         this.bindManagers();
     }
@@ -65,12 +103,12 @@ public class ModelImpl implements ModelManager, Model {
     @Override
     public void init(final Save s) {
         // init model managers
-        map = new MapManagerImpl(s.getMapJson());
-        defenses = new DefenseManagerImpl(s.getDefensesJson());
-        enemies = new EnemiesManagerImpl();
-        game = new GameManagerImpl(
-            GameDTO.fromJson(s.getGameJson())
-        );
+        map = new MapManagerImpl(s.getMap());
+        defenses = new DefenseManagerImpl(s.getDefenses());
+        final GameDTO dto = GameDTO.fromJson(s.getGameJson());
+        // the map is restored, the next waves are drawn again from the saved seed
+        enemies = new EnemiesManagerImpl(new RandomStreamsImpl(dto.getSeed()));
+        game = new GameManagerImpl(dto);
         // save the save
         this.save = s;
         // bind managers
@@ -242,10 +280,18 @@ public class ModelImpl implements ModelManager, Model {
      * {@inheritDoc}
      */
     @Override
-    public Score saveScore() {
+    public ScoreDTO saveScore() {
+        // the game is over, its autosaves can't be resumed
+        if (Objects.nonNull(this.autosave)) {
+            this.autosave.clear();
+        }
         try {
-            final var scoreboard = new ScoreboardImpl();
-            return scoreboard.saveScore(game.getPlayerName(), game.getWave());
+            if (Objects.isNull(this.scoreboard)) {
+                this.scoreboard = new ScoreboardImpl();
+                this.scoreboard.loadScores();
+            }
+            final var score = this.scoreboard.saveScore(game.getPlayerName(), game.getWave());
+            return score.toDTO(this.scoreboard.getRank(score.getWave()));
         } catch (final IOException e) {
            throw new UncheckedIOException("Error save score", e);
         }
@@ -255,8 +301,8 @@ public class ModelImpl implements ModelManager, Model {
      * {@inheritDoc}
      */
     @Override
-    public void save() {
-        // create json save map
+    public CompletableFuture<Boolean> save() {
+        // snapshot the game state as json save map
         final var json = Map.of(
             SaveFieldsEnum.GAME, game.toJSON(),
             SaveFieldsEnum.MAP, map.toJSON(),
@@ -272,10 +318,14 @@ public class ModelImpl implements ModelManager, Model {
                 save.getDate()
             );
         }
-        // create saveloader
+        // write the snapshot in background
         try {
-            final var saveLoader = new SavesImpl(game.getPlayerName());
-            saveLoader.writeSave(this.save);
+            final var saveWriter = new SaveWriterImpl(new SavesImpl(game.getPlayerName()));
+            // once saved, the older autosaves would only roll the progress back
+            final Autosave current = this.autosave;
+            return saveWriter.write(this.save).thenCompose(saved -> saved && Objects.nonNull(current)
+                ? current.clear().thenApply(cleared -> true)
+                : CompletableFuture.completedFuture(saved));
         } catch (final IOException e) {
             throw new UncheckedIOException("Error save game", e);
         }
@@ -286,6 +336,15 @@ public class ModelImpl implements ModelManager, Model {
         map.bind(this);
         defenses.bind(this);
         enemies.bind(this);
+        // autosave every few waves, the map is serialized only for full snapshots
+        if (this.autosaving) {
+            try {
+                this.autosave = new AutosaveImpl(game.getPlayerName());
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Error creating autosaves folder", e);
+            }
+            game.addWaveObserver(wave -> this.autosave.onWave(wave, game::toJSON, defenses::toJSON, map::toJSON));
+        }
         // set initialized to true
         initialized = true;
     }
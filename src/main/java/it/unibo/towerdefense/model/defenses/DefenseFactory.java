@@ -16,6 +16,11 @@ public interface DefenseFactory {
      * @throws IOException if errors occur during file reading.
     */
     Defense defenseFromJsonSave(String saveFile);
+    /**
+     * @return a defense from a previous save, ready to attack.
+     * @param saved the defense as it was saved.
+    */
+    Defense defenseFromSave(Defense saved);
     /**
      * @return a defense from pre-built stat file.
      * @param statFile the file with the statistics of the defense.
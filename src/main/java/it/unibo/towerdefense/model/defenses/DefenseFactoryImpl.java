@@ -93,9 +93,16 @@ public class DefenseFactoryImpl implements DefenseFactory {
      */
     @Override
     public Defense defenseFromJsonSave(final String jsonData) {
-        final Defense result = Defense.fromJson(jsonData);
-        setStrategyFor(result);
-        return result;
+        return defenseFromSave(Defense.fromJson(jsonData));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Defense defenseFromSave(final Defense saved) {
+        setStrategyFor(saved);
+        return saved;
     }
 
     /**
@@ -29,8 +29,13 @@ public class DefenseManagerImpl implements DefenseManager {
     private List<Pair<Defense, Integer>> defenses;
     /**for getting end of map and entities.*/
     private ModelManager manager;
-    /**gets the attacks that occured in one loop.*/
+    /**number of updates after which attacks not yet described are dropped,
+     * many more than the updates run between two rendered frames.*/
+    private static final int ATTACKS_RETENTION = 30;
+    /**gets the attacks that occured in every loop since the defenses were last described.*/
     private final Map<Defense, List<LogicalPosition>> attacksOnLoop = new HashMap<>();
+    /**updates run since the defenses were last described.*/
+    private int updatesSinceDescribed;
     /**gets wich defense is being focused.*/
     private Optional<Defense> focusedDef = Optional.empty();
 
@@ -47,6 +52,16 @@ public class DefenseManagerImpl implements DefenseManager {
         }
     }
 
+    /**A constructor that recovers defense state from the defenses of a save.
+     * @param savedDefenses the saved defenses.
+    */
+    public DefenseManagerImpl(final List<Defense> savedDefenses) {
+        this();
+        for (final Defense def: savedDefenses) {
+            this.defenses.add(MutablePair.of(factory.defenseFromSave(def), 0));
+        }
+    }
+
     /**Empty default constructor.*/
     public DefenseManagerImpl() {
         this.defenses = new LinkedList<>();
@@ -81,7 +96,7 @@ public class DefenseManagerImpl implements DefenseManager {
          focusedDef.isPresent() && focusedDef.get().equals(def),
          def.getType(),
          def.getPosition(), 
-         List.copyOf(attacksOnLoop.computeIfAbsent(def, x -> List.of())));
+         List.copyOf(attacksOnLoop.getOrDefault(def, List.of())));
     }
 
     /**gets the models of buildable defenses for given defense
@@ -119,6 +134,11 @@ public class DefenseManagerImpl implements DefenseManager {
      */
     @Override
     public void update() {
+        /**attacks are not described while the game is not rendered, drop the stale ones.*/
+        updatesSinceDescribed++;
+        if (updatesSinceDescribed > ATTACKS_RETENTION) {
+            attacksOnLoop.clear();
+        }
         updateMomentum();
         final Set<? extends Enemy> enemies = manager.getEnemies().getEnemies();
         final List<? extends Enemy> enumeratedEnemies = enemies.stream().toList();
@@ -195,7 +215,8 @@ public class DefenseManagerImpl implements DefenseManager {
                     /**add attacks */
                     final List<LogicalPosition> hitEnemies = new LinkedList<>();
                     attackResult.entrySet().forEach(x -> hitEnemies.add(availableTargets.get(x.getKey()).getPosition()));
-                    attacksOnLoop.put(def.getKey(), hitEnemies);
+                    /**keep the attacks of the previous loops, until they are described.*/
+                    attacksOnLoop.computeIfAbsent(def.getKey(), x -> new LinkedList<>()).addAll(hitEnemies);
                 }
             }
         }
@@ -233,6 +254,7 @@ public class DefenseManagerImpl implements DefenseManager {
             descs.add(getDescriptionFrom(this.defenses.get(i).getKey()));
         }
         attacksOnLoop.clear();
+        updatesSinceDescribed = 0;
         return descs;
     }
 
@@ -11,6 +11,8 @@ import it.unibo.towerdefense.commons.dtos.enemies.EnemyPosition;
 import it.unibo.towerdefense.commons.exceptions.ConfigurationLoadingException;
 import it.unibo.towerdefense.commons.patterns.Observer;
 import it.unibo.towerdefense.commons.utils.file.FileUtils;
+import it.unibo.towerdefense.commons.utils.random.RandomStreams;
+import it.unibo.towerdefense.commons.utils.random.RandomStreamsImpl;
 
 /**
  * The main class for the model of enemies.
@@ -40,6 +42,19 @@ class EnemiesImpl implements Enemies {
      */
     EnemiesImpl(final BiFunction<? super EnemyPosition, Integer, Optional<EnemyPosition>> posFunction,
             final Supplier<EnemyPosition> startingPosSupplier) {
+        this(posFunction, startingPosSupplier, new RandomStreamsImpl());
+    }
+
+    /**
+     * Contstructor for the class with the randomness of the game session.
+     *
+     * @param posFunction         see the other constructor
+     * @param startingPosSupplier the supplier for the starting position of enemies
+     * @param random              the random streams waves are generated from
+     */
+    EnemiesImpl(final BiFunction<? super EnemyPosition, Integer, Optional<EnemyPosition>> posFunction,
+            final Supplier<EnemyPosition> startingPosSupplier,
+            final RandomStreams random) {
         this.startingPosSupplier = startingPosSupplier;
         this.enemies = new EnemyCollectionImpl(posFunction);
         this.factory = new SimpleEnemyFactory();
@@ -48,7 +63,7 @@ class EnemiesImpl implements Enemies {
                 FileUtils.readResource(Filenames.wavesConfig()));
             final EnemyCatalogue ec = new EnemyCatalogueFactory(
                 FileUtils.readResource(Filenames.typesConfig())).compile();
-            this.waveSupplier = new PredicateBasedRandomWaveGenerator(wp, ec);
+            this.waveSupplier = new PredicateBasedRandomWaveGenerator(wp, ec, random);
         } catch (IOException e) {
             throw new ConfigurationLoadingException("Failed to load enemy-related configuration file.", e);
         }
@@ -7,6 +7,8 @@ import java.util.function.Supplier;
 
 import it.unibo.towerdefense.commons.dtos.enemies.EnemyPosition;
 import it.unibo.towerdefense.commons.engine.LogicalPosition;
+import it.unibo.towerdefense.commons.utils.random.RandomStreams;
+import it.unibo.towerdefense.commons.utils.random.RandomStreamsImpl;
 import it.unibo.towerdefense.model.ModelManager;
 import it.unibo.towerdefense.model.game.GameManager;
 import it.unibo.towerdefense.model.map.MapManager;
@@ -29,9 +31,19 @@ public class EnemiesManagerImpl implements EnemiesManager {
      * bind in this state will result in an IllegalStateException.
      */
     public EnemiesManagerImpl() {
+        this(new RandomStreamsImpl());
+    }
+
+    /**
+     * Constructor for the class with the randomness of the game session.
+     * Initializes Enemies in a non-binded state, as the other constructor.
+     *
+     * @param random the random streams waves are generated from
+     */
+    public EnemiesManagerImpl(final RandomStreams random) {
         posFunction = new BindableBiFunction<>();
         startingPosSupplier = new BindableSupplier<>();
-        enemies = new EnemiesImpl(posFunction, startingPosSupplier);
+        enemies = new EnemiesImpl(posFunction, startingPosSupplier, random);
         bound = false;
     }
 
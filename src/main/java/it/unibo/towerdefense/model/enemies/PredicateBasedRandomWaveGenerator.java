@@ -2,33 +2,53 @@ package it.unibo.towerdefense.model.enemies;
 
 import java.util.Iterator;
 import java.util.List;
-import java.util.Random;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
 import it.unibo.towerdefense.commons.patterns.SkipIterator;
+import it.unibo.towerdefense.commons.utils.random.RandomStreams;
+import it.unibo.towerdefense.commons.utils.random.RandomStreamsImpl;
 
 /**
  * A class responsible of producing a new wave given its ordinal number.
  * A wave cannot be produced empty.
+ * Each wave is drawn from its own random sub-stream, so the same seed always
+ * produces the same wave for the same number, whatever waves came before.
  *
  * @see Function
  */
 class PredicateBasedRandomWaveGenerator implements Function<Integer, Wave> {
 
+    private static final String WAVES_STREAM = "waves";
+
     private final WavePolicySupplier wp;
     private final EnemyCatalogue ec;
-    private final Random r = new Random();
+    private final RandomStreams random;
 
     /**
      * The constructor for the class.
      *
      * @param wp
      * @param ec
+     * @param random the random streams of the game session
      */
-    PredicateBasedRandomWaveGenerator(final WavePolicySupplier wp, final EnemyCatalogue ec) {
+    PredicateBasedRandomWaveGenerator(
+            final WavePolicySupplier wp,
+            final EnemyCatalogue ec,
+            final RandomStreams random) {
         this.wp = wp;
         this.ec = ec;
+        this.random = random;
+    }
+
+    /**
+     * The constructor for the class, generating waves from a random seed.
+     *
+     * @param wp
+     * @param ec
+     */
+    PredicateBasedRandomWaveGenerator(final WavePolicySupplier wp, final EnemyCatalogue ec) {
+        this(wp, ec, new RandomStreamsImpl());
     }
 
     /**
@@ -53,7 +73,7 @@ class PredicateBasedRandomWaveGenerator implements Function<Integer, Wave> {
          * given wave
          */
         return new SkipWave(
-                r.ints(0, availableTypes.size())
+                random.stream(WAVES_STREAM, wave).ints(0, availableTypes.size())
                         .mapToObj(i -> availableTypes.get(i))
                         .takeWhile(new Predicate<RichEnemyType>() {
                             private long power;
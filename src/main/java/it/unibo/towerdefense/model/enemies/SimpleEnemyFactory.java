@@ -15,12 +15,14 @@ import it.unibo.towerdefense.commons.patterns.Observer;
  */
 class SimpleEnemyFactory implements EnemyFactory {
 
+    private int nextId;
+
     /**
      * {@inheritDoc}.
      */
     @Override
     public RichEnemy spawn(final RichEnemyType t, final EnemyPosition spawnPos) {
-        return new MinimalEnemy(t, spawnPos);
+        return new MinimalEnemy(nextId++, t, spawnPos);
     }
 
     /**
@@ -35,14 +37,16 @@ class SimpleEnemyFactory implements EnemyFactory {
         /**
          * A record to keep track of the information about an Enemy.
          *
-         * @param hp   the current hp of the enemy
+         * @param id   the identifier of the enemy
          * @param pos  the current position of the enemy
+         * @param hp   the current hp of the enemy
          * @param type the EnemyType of the enemy
          */
-        private record EnemyInfoImpl(EnemyPosition pos, Integer hp, EnemyType type)
+        private record EnemyInfoImpl(int id, EnemyPosition pos, Integer hp, EnemyType type)
                 implements EnemyInfo {
         }
 
+        private final int id;
         private final EnemyPosition pos;
         private final Set<Observer<? super RichEnemy>> deathObservers;
         private final RichEnemyType t;
@@ -51,10 +55,12 @@ class SimpleEnemyFactory implements EnemyFactory {
         /**
          * Constructor for the class.
          *
+         * @param id the identifier of the enemy
          * @param t the type of the Enemy from which to retrieve hp and speed
          * @param startingPos the starting position of the enemy
          */
-        MinimalEnemy(final RichEnemyType t, final EnemyPosition startingPos) {
+        MinimalEnemy(final int id, final RichEnemyType t, final EnemyPosition startingPos) {
+            this.id = id;
             deathObservers = new HashSet<>();
             this.pos = startingPos.copy();
             this.t = t;
@@ -112,7 +118,7 @@ class SimpleEnemyFactory implements EnemyFactory {
          */
         @Override
         public EnemyInfo info() {
-            return new EnemyInfoImpl(this.getPosition(), this.getHp(), t);
+            return new EnemyInfoImpl(this.id, this.getPosition(), this.getHp(), t);
         }
 
         /**
@@ -3,6 +3,7 @@ package it.unibo.towerdefense.model.game;
 import it.unibo.towerdefense.commons.api.JsonSerializable;
 import it.unibo.towerdefense.commons.dtos.game.GameDTO;
 import it.unibo.towerdefense.commons.patterns.Observable;
+import it.unibo.towerdefense.commons.patterns.Observer;
 import it.unibo.towerdefense.model.Manager;
 
 /**
@@ -71,6 +72,12 @@ public interface GameManager extends Manager, Observable<GameDTO>, JsonSerializa
      */
     void advanceWave();
 
+    /**
+     * Adds an observer notified with the new wave number every time the game advances to the next wave.
+     * @param observer the observer to be added
+     */
+    void addWaveObserver(Observer<Integer> observer);
+
     /**
      * GameStatus getter.
      * @return the state of the game
@@ -3,6 +3,7 @@ package it.unibo.towerdefense.model.game;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Consumer;
 
 import org.slf4j.Logger;
@@ -29,9 +30,11 @@ public class GameManagerImpl implements GameManager {
     private final Logger logger =
         LoggerFactory.getLogger(GameManagerImpl.class);
     private final List<Observer<GameDTO>> observers;
+    private final List<Observer<Integer>> waveObservers;
     private final String playerName;
+    private final long seed;
     private BindableConsumer<Integer> waveHandler;
-    private GameStatus gameStatus;
+    private volatile GameStatus gameStatus;
     private boolean shouldWaveStart;
     private int lives;
     private int money;
@@ -40,9 +43,19 @@ public class GameManagerImpl implements GameManager {
     /**
      * Constructor with playerName, it initializes a new game with default values.
      * @param playerName the player name
+     * @param seed the seed of the randomness of the game
+     */
+    public GameManagerImpl(final String playerName, final long seed) {
+        this(playerName, START_LIVES, START_MONEY, START_WAVE, seed);
+    }
+
+    /**
+     * Constructor with playerName, it initializes a new game with default values
+     * and a random seed.
+     * @param playerName the player name
      */
     public GameManagerImpl(final String playerName) {
-        this(playerName, START_LIVES, START_MONEY, START_WAVE);
+        this(playerName, ThreadLocalRandom.current().nextLong());
     }
 
     /**
@@ -54,7 +67,8 @@ public class GameManagerImpl implements GameManager {
             gameDTO.getPlayerName(),
             gameDTO.getLives(),
             gameDTO.getMoney(),
-            gameDTO.getWave()
+            gameDTO.getWave(),
+            gameDTO.getSeed()
         );
     }
 
@@ -62,8 +76,10 @@ public class GameManagerImpl implements GameManager {
         final String playerName,
         final int lives,
         final int money,
-        final int wave
+        final int wave,
+        final long seed
     ) {
+        this.seed = seed;
         this.playerName = playerName;
         this.lives = lives;
         this.money = money;
@@ -71,6 +87,7 @@ public class GameManagerImpl implements GameManager {
         this.gameStatus = GameStatus.PAUSE;
         // initialize empty list of observers
         this.observers = new ArrayList<>();
+        this.waveObservers = new ArrayList<>();
         // initialize waveHandler
         this.waveHandler = new BindableConsumer<>();
     }
@@ -123,8 +140,7 @@ public class GameManagerImpl implements GameManager {
             }
         }
         // set game state to GAME_OVER and return false
-        this.gameStatus = GameStatus.GAME_OVER;
-        this.notifyObservers();
+        this.setGameStatus(GameStatus.GAME_OVER);
         return false;
     }
 
@@ -192,6 +208,15 @@ public class GameManagerImpl implements GameManager {
         this.wave++;
         this.shouldWaveStart = true;
         this.notifyObservers();
+        this.waveObservers.forEach(obs -> obs.notify(this.wave));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addWaveObserver(final Observer<Integer> observer) {
+        this.waveObservers.add(observer);
     }
 
     /**
@@ -249,7 +274,8 @@ public class GameManagerImpl implements GameManager {
             this.lives,
             this.money,
             this.wave,
-            this.gameStatus
+            this.gameStatus,
+            this.seed
         );
     }
 
@@ -1,7 +1,9 @@
 package it.unibo.towerdefense.model.map;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Random;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.json.JSONArray;
@@ -11,6 +13,8 @@ import it.unibo.towerdefense.commons.engine.Position;
 import it.unibo.towerdefense.commons.engine.PositionImpl;
 import it.unibo.towerdefense.commons.engine.Size;
 import it.unibo.towerdefense.commons.engine.SizeImpl;
+import it.unibo.towerdefense.commons.utils.random.RandomStreams;
+import it.unibo.towerdefense.commons.utils.random.RandomStreamsImpl;
 
 /**
  * Class that implements GameMap methods, and generate the map.
@@ -21,7 +25,8 @@ public class GameMapImpl implements GameMap {
     private final Size size;
     private final PathCell spawn;
     private final PathCell end;
-    private static final Random RANDOM = new Random();
+    private static final String MAP_STREAM = "map";
+    private static final String PATH_STREAM = "path";
     private static final int OBSTACLE_RATE = 10;
     private static final int MAX_X_SIZE = 100;
     private static final int MAX_Y_SIZE = 100;
@@ -29,16 +34,29 @@ public class GameMapImpl implements GameMap {
 
     /**
      * Constructor from size of map in terms of game space and screen space.
+     * The map is generated from a random seed.
      * @param size size of map in terms of Cells
      */
     public GameMapImpl(final Size size) {
+        this(size, new RandomStreamsImpl());
+    }
+
+    /**
+     * Constructor from size of map and the randomness of the game session,
+     * the same seed always generates the same map.
+     * @param size size of map in terms of Cells
+     * @param random the random streams of the game session
+     */
+    public GameMapImpl(final Size size, final RandomStreams random) {
         if (size.getHeight() > MAX_Y_SIZE || size.getWidth() > MAX_X_SIZE) {
             throw new IllegalArgumentException("Max dimension allowed are: " + MAX_X_SIZE + ", " + MAX_Y_SIZE);
         }
-        final MapDirection pathDirection = MapDirection.values()[RANDOM.nextInt(4)];
+        final Random cells = random.stream(MAP_STREAM);
+        final MapDirection pathDirection = MapDirection.values()[cells.nextInt(4)];
         this.size = size;
         map = new Cell[size.getWidth()][size.getHeight()];
-        final Iterator<MapDirection> path = new ReversedPathFactory().generate(size, pathDirection);
+        final Iterator<MapDirection> path = new ReversedPathFactory(random.stream(PATH_STREAM))
+            .generate(size, pathDirection);
         final Position pos = generatePosition(pathDirection);
         int distanceToEnd = 0;
         end = new PathCellImpl(pos, path.next(), pathDirection, distanceToEnd);
@@ -56,7 +74,7 @@ public class GameMapImpl implements GameMap {
         for (int i = 0; i < size.getWidth(); i++) {
             for (int j = 0; j < size.getHeight(); j++) {
                 if (map[i][j] == null) {
-                    map[i][j] = new BuildableCellImpl(new PositionImpl(i, j), RANDOM.nextInt(OBSTACLE_RATE) != 0);
+                    map[i][j] = new BuildableCellImpl(new PositionImpl(i, j), cells.nextInt(OBSTACLE_RATE) != 0);
                 }
             }
         }
@@ -76,7 +94,7 @@ public class GameMapImpl implements GameMap {
         this.size = size;
         this.spawn = spawn;
         this.end = end;
-        this.map = new Cell[size.getHeight()][size.getWidth()];
+        this.map = new Cell[size.getWidth()][size.getHeight()];
         path.forEach(c -> map[c.getX()][c.getY()] = c);
         buildable.forEach(c -> map[c.getX()][c.getY()] = c);
     }
@@ -174,12 +192,26 @@ public class GameMapImpl implements GameMap {
         return new GameMapImpl(
             itStream(jArrayPath.length()).map(i -> PathCellImpl.fromJson(jArrayPath.getString(i))),
             itStream(jArrayBuildable.length()).map(i -> BuildableCellImpl.fromJson(jArrayBuildable.getString(i))),
-            new SizeImpl(jObj.getInt("height"), jObj.getInt("width")),
+            new SizeImpl(jObj.getInt("width"), jObj.getInt("height")),
             PathCellImpl.fromJson(jObj.getString("spawn")),
             PathCellImpl.fromJson(jObj.getString("end"))
         );
     }
 
+    /**
+     * Returns the GameMap object made up of the given cells.
+     * @param size size of map in terms of Cells
+     * @param path the path cells inside the map, spawn included
+     * @param buildable the buildable cells
+     * @param spawn the first cell of the path
+     * @param end the last cell of the path, which lies outside the map
+     * @return the GameMap object
+     */
+    public static GameMap fromCells(final Size size, final Stream<PathCell> path, final Stream<BuildableCell> buildable,
+        final PathCell spawn, final PathCell end) {
+        return new GameMapImpl(path, buildable, size, spawn, end);
+    }
+
     /**
      * Create a stream of T objects from T two-dimensional array.
      * @param <T> type of array elements
@@ -188,10 +220,9 @@ public class GameMapImpl implements GameMap {
      * @return Stream of array elements.
      */
     private static <T> Stream<T> toStream(final T[][] array, final Size size) {
-        return Stream.iterate(0, x -> x < size.getWidth(), x -> x + 1)
-            .flatMap(x -> Stream.iterate(
-                new PositionImpl(x, 0), p -> p.getY() < size.getHeight(), p -> new PositionImpl(x, p.getY() + 1)))
-            .map(p -> array[p.getX()][p.getY()]);
+        return IntStream.range(0, size.getWidth())
+            .boxed()
+            .flatMap(x -> Arrays.stream(array[x], 0, size.getHeight()));
     }
 
     /**
@@ -17,6 +17,7 @@ import it.unibo.towerdefense.commons.engine.LogicalPosition;
 import it.unibo.towerdefense.commons.engine.Position;
 import it.unibo.towerdefense.commons.engine.PositionImpl;
 import it.unibo.towerdefense.commons.engine.Size;
+import it.unibo.towerdefense.commons.utils.random.RandomStreams;
 import it.unibo.towerdefense.model.ModelManager;
 import it.unibo.towerdefense.model.defenses.DefenseManager;
 import it.unibo.towerdefense.model.game.GameManager;
@@ -31,6 +32,7 @@ public class MapManagerImpl implements MapManager {
     private List<DefenseDescription> options;
     private DefenseManager defenses;
     private GameManager game;
+    private List<CellInfo> cellsInfo;
 
 
     /**
@@ -41,6 +43,15 @@ public class MapManagerImpl implements MapManager {
         this.map = new GameMapImpl(size);
     }
 
+    /**
+     *Constructor from size of map and the randomness of the game session.
+     * @param size size of map in terms of game cells.
+     * @param random the random streams the map is generated from.
+     */
+    public MapManagerImpl(final Size size, final RandomStreams random) {
+        this.map = new GameMapImpl(size, random);
+    }
+
     /**
      *Constructor from jsondata of map.
      * @param jsondata JSON representation of GameMap Object.
@@ -49,6 +60,14 @@ public class MapManagerImpl implements MapManager {
         this.map = GameMapImpl.fromJson(jsondata);
     }
 
+    /**
+     *Constructor from an existing map, such as the one of a save.
+     * @param map the GameMap Object.
+     */
+    public MapManagerImpl(final GameMap map) {
+        this.map = map;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -212,7 +231,27 @@ public class MapManagerImpl implements MapManager {
      */
     @Override
     public Stream<CellInfo> getMap() {
-        return map.getMap().map(c -> new CellInfo() {
+        if (cellsInfo == null) {
+            cellsInfo = map.getMap().map(this::toCellInfo).toList();
+        }
+        return cellsInfo.stream();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toJSON() {
+        return map.toJSON();
+    }
+
+    /**
+     * Creates a view of the given cell, which reflects its current state.
+     * @param c the cell to describe.
+     * @return the CellInfo of the cell.
+     */
+    private CellInfo toCellInfo(final Cell c) {
+        return new CellInfo() {
 
             @Override
             public LogicalPosition getPosition() {
@@ -244,15 +283,7 @@ public class MapManagerImpl implements MapManager {
                 }
                 throw new UnsupportedOperationException("This does not represent a PathCell");
             }
-        });
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public String toJSON() {
-        return map.toJSON();
+        };
     }
 
     private void defenseSelection(final boolean isSelected) {
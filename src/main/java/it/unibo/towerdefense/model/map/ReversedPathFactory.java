@@ -14,6 +14,22 @@ import it.unibo.towerdefense.commons.engine.Size;
  */
 public class ReversedPathFactory {
 
+    private final Random random;
+
+    /**
+     * Constructor from the random generator used to generate paths.
+     * @param random the random generator
+     */
+    public ReversedPathFactory(final Random random) {
+        this.random = random;
+    }
+
+    /**
+     * Zero-argument constructor, generating paths from a random seed.
+     */
+    public ReversedPathFactory() {
+        this(new Random());
+    }
 
     /**
      *Return a path corresponding to an horizontal line from left to right.
@@ -40,14 +56,13 @@ public class ReversedPathFactory {
     public Iterator<MapDirection> generate(final Size size, final MapDirection direction) {
         return Stream.iterate(opposite(direction), new UnaryOperator<MapDirection>() {
 
-            private static final Random RANDOM = new Random();
-            private int n = RANDOM.nextInt(2) * 2;
+            private int n = random.nextInt(2) * 2;
             private int counter;
 
             @Override
             public MapDirection apply(final MapDirection d) {
                 if (counter
-                < RANDOM.nextInt(Math.abs(direction.horizontal() * size.getHeight() + direction.vertical() * size.getWidth())
+                < random.nextInt(Math.abs(direction.horizontal() * size.getHeight() + direction.vertical() * size.getWidth())
                 / (d == opposite(direction) ? 3 : 2)
                 )) {
                     counter++;
@@ -0,0 +1,97 @@
+package it.unibo.towerdefense.model.replay;
+
+import java.io.IOException;
+import java.util.List;
+
+import it.unibo.towerdefense.commons.engine.Size;
+
+/**
+ * Interface that models the replay of a game: the seed the game was
+ * started from and the log of the commands issued by the player.
+ * Played again from the same seed, the commands reproduce the same game.
+ */
+public interface Replay {
+
+    /**
+     * Returns the name of the player.
+     * @return the name of the player
+     */
+    String getPlayerName();
+
+    /**
+     * Returns the size of the map.
+     * @return the size of the map
+     */
+    Size getMapSize();
+
+    /**
+     * Returns the seed the game was started from.
+     * @return the seed
+     */
+    long getSeed();
+
+    /**
+     * Returns the recorded commands.
+     * @return the unmodifiable list of commands, ordered by tick
+     */
+    List<ReplayCommand> getCommands();
+
+    /**
+     * Returns the number of ticks the game lasted.
+     * @return the number of ticks
+     */
+    long getTicks();
+
+    /**
+     * Records a command issued by the player.
+     * @param command the command
+     */
+    void record(ReplayCommand command);
+
+    /**
+     * Records the end of the game.
+     * @param tick the tick the game ended at
+     */
+    void end(long tick);
+
+    /**
+     * Returns the replay log.
+     * @return the log, with a header line, the game line and one line per command
+     */
+    String toLog();
+
+    /**
+     * Writes the replay to a file.
+     * @param filePath the path of the file
+     * @throws IOException if the file cannot be written
+     */
+    void write(String filePath) throws IOException;
+
+    /**
+     * Writes the replay in the replays folder of the player,
+     * deleting the oldest replays of the player.
+     * @return the path of the written file
+     * @throws IOException if the file cannot be written
+     */
+    String write() throws IOException;
+
+    /**
+     * Returns the replay from its log.
+     * @param log the replay log
+     * @return the replay
+     * @throws IllegalArgumentException if the log is not a valid replay log
+     */
+    static Replay fromLog(final String log) {
+        return ReplayImpl.fromLog(log);
+    }
+
+    /**
+     * Reads a replay from a file.
+     * @param filePath the path of the file
+     * @return the replay
+     * @throws IOException if the file cannot be read or is not a valid replay
+     */
+    static Replay read(final String filePath) throws IOException {
+        return ReplayImpl.read(filePath);
+    }
+}
@@ -0,0 +1,71 @@
+package it.unibo.towerdefense.model.replay;
+
+import it.unibo.towerdefense.commons.dtos.game.ControlAction;
+import it.unibo.towerdefense.commons.engine.Position;
+import it.unibo.towerdefense.model.Model;
+
+/**
+ * Interface that models a player command recorded during a game,
+ * together with the tick it was issued at.
+ */
+public interface ReplayCommand {
+
+    /**
+     * Returns the tick the command was issued at,
+     * which is the number of model updates done before it.
+     * @return the tick
+     */
+    long getTick();
+
+    /**
+     * Applies the command to the model.
+     * @param model the model
+     */
+    void apply(Model model);
+
+    /**
+     * Returns the line of the command in the replay log.
+     * @return the line, without the new line
+     */
+    String toLog();
+
+    /**
+     * Returns the command selecting a cell.
+     * @param tick the tick the command was issued at
+     * @param position the position of the cell
+     * @return the command
+     */
+    static ReplayCommand cellSelection(final long tick, final Position position) {
+        return new ReplayCommands.CellSelection(tick, position.getX(), position.getY());
+    }
+
+    /**
+     * Returns the command building a defense in the selected cell.
+     * @param tick the tick the command was issued at
+     * @param index the index of the building option
+     * @return the command
+     */
+    static ReplayCommand defenseBuild(final long tick, final int index) {
+        return new ReplayCommands.DefenseBuild(tick, index);
+    }
+
+    /**
+     * Returns the command handling a control action.
+     * @param tick the tick the command was issued at
+     * @param action the control action
+     * @return the command
+     */
+    static ReplayCommand control(final long tick, final ControlAction action) {
+        return new ReplayCommands.Control(tick, action);
+    }
+
+    /**
+     * Returns the command from its line in the replay log.
+     * @param line the line of the command
+     * @return the command
+     * @throws IllegalArgumentException if the line is not a valid command
+     */
+    static ReplayCommand fromLog(final String line) {
+        return ReplayCommands.parse(line);
+    }
+}
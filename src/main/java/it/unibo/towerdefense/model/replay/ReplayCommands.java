@@ -0,0 +1,116 @@
+package it.unibo.towerdefense.model.replay;
+
+import it.unibo.towerdefense.commons.dtos.game.ControlAction;
+import it.unibo.towerdefense.commons.engine.Position;
+import it.unibo.towerdefense.model.Model;
+
+/**
+ * The kinds of player commands of a replay.
+ * Each command is logged as its tick, a one letter kind and its arguments,
+ * separated by spaces.
+ */
+final class ReplayCommands {
+
+    private static final String SEPARATOR = " ";
+    private static final String CELL_SELECTION = "S";
+    private static final String DEFENSE_BUILD = "B";
+    private static final String CONTROL = "C";
+
+    private ReplayCommands() {
+    }
+
+    /**
+     * Parses a command from its line in the replay log.
+     * @param line the line of the command
+     * @return the command
+     */
+    static ReplayCommand parse(final String line) {
+        final String[] parts = line.strip().split(SEPARATOR);
+        try {
+            final long tick = Long.parseLong(parts[0]);
+            switch (parts[1]) {
+                case CELL_SELECTION:
+                    return new CellSelection(tick, Integer.parseInt(parts[2]), Integer.parseInt(parts[3]));
+                case DEFENSE_BUILD:
+                    return new DefenseBuild(tick, Integer.parseInt(parts[2]));
+                case CONTROL:
+                    return new Control(tick, ControlAction.valueOf(parts[2]));
+                default:
+                    throw new IllegalArgumentException("Unknown replay command: " + line);
+            }
+        } catch (final ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid replay command: " + line, e);
+        }
+    }
+
+    /**
+     * The selection of the cell at a position.
+     * @param tick the tick the command was issued at
+     * @param x the x coordinate of the cell
+     * @param y the y coordinate of the cell
+     */
+    record CellSelection(long tick, int x, int y) implements ReplayCommand {
+
+        @Override
+        public long getTick() {
+            return this.tick;
+        }
+
+        @Override
+        public void apply(final Model model) {
+            model.selectCell(Position.of(this.x, this.y));
+        }
+
+        @Override
+        public String toLog() {
+            return String.join(SEPARATOR,
+                String.valueOf(this.tick), CELL_SELECTION, String.valueOf(this.x), String.valueOf(this.y));
+        }
+    }
+
+    /**
+     * The build of a defense in the selected cell.
+     * @param tick the tick the command was issued at
+     * @param index the index of the building option
+     */
+    record DefenseBuild(long tick, int index) implements ReplayCommand {
+
+        @Override
+        public long getTick() {
+            return this.tick;
+        }
+
+        @Override
+        public void apply(final Model model) {
+            model.build(this.index);
+        }
+
+        @Override
+        public String toLog() {
+            return String.join(SEPARATOR, String.valueOf(this.tick), DEFENSE_BUILD, String.valueOf(this.index));
+        }
+    }
+
+    /**
+     * A control action.
+     * @param tick the tick the command was issued at
+     * @param action the control action
+     */
+    record Control(long tick, ControlAction action) implements ReplayCommand {
+
+        @Override
+        public long getTick() {
+            return this.tick;
+        }
+
+        @Override
+        public void apply(final Model model) {
+            model.handleControls(this.action);
+        }
+
+        @Override
+        public String toLog() {
+            return String.join(SEPARATOR, String.valueOf(this.tick), CONTROL, this.action.name());
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package it.unibo.towerdefense.model.replay;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import it.unibo.towerdefense.commons.Constants;
+import it.unibo.towerdefense.commons.engine.Size;
+import it.unibo.towerdefense.commons.utils.file.FileUtils;
+
+/**
+ * Class implementing the Replay interface.
+ * The log is made of a header line, a JSON line describing the game
+ * and one compact line per command, in the order they were issued.
+ * Replays are named after the time they were written, so that their names
+ * sort from the oldest to the latest.
+ */
+public class ReplayImpl implements Replay {
+
+    private static final String REPLAYS_FOLDER = Constants.GAME_FOLDER
+            + File.separator
+            + "replays";
+    private static final String HEADER = "#towerdefense-replay 1";
+    private static final String EXTENSION = ".replay";
+    private static final String FILE_FORMAT = "%015d" + EXTENSION;
+    private static final String PLAYER_FIELD = "player";
+    private static final String SEED_FIELD = "seed";
+    private static final String WIDTH_FIELD = "width";
+    private static final String HEIGHT_FIELD = "height";
+    private static final String TICKS_FIELD = "ticks";
+    private static final String NEW_LINE = "\n";
+
+    private final String playerName;
+    private final Size mapSize;
+    private final long seed;
+    private final List<ReplayCommand> commands;
+    private long ticks;
+
+    /**
+     * Constructor for a game about to start.
+     * @param playerName the name of the player
+     * @param mapSize the size of the map
+     * @param seed the seed the game is started from
+     */
+    public ReplayImpl(final String playerName, final Size mapSize, final long seed) {
+        this(playerName, mapSize, seed, List.of(), 0);
+    }
+
+    /**
+     * Constructor with all the fields.
+     * @param playerName the name of the player
+     * @param mapSize the size of the map
+     * @param seed the seed the game was started from
+     * @param commands the commands, ordered by tick
+     * @param ticks the number of ticks the game lasted
+     */
+    public ReplayImpl(
+        final String playerName,
+        final Size mapSize,
+        final long seed,
+        final List<ReplayCommand> commands,
+        final long ticks
+    ) {
+        this.playerName = playerName;
+        this.mapSize = mapSize.copy();
+        this.seed = seed;
+        this.commands = new ArrayList<>(commands);
+        this.ticks = ticks;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getPlayerName() {
+        return this.playerName;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Size getMapSize() {
+        return this.mapSize.copy();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized List<ReplayCommand> getCommands() {
+        return Collections.unmodifiableList(new ArrayList<>(this.commands));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized long getTicks() {
+        return this.ticks;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Commands are issued by the view while the game loop updates the model,
+     * so recording is synchronized.
+     */
+    @Override
+    public synchronized void record(final ReplayCommand command) {
+        this.commands.add(command);
+        this.ticks = Math.max(this.ticks, command.getTick());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void end(final long tick) {
+        this.ticks = Math.max(this.ticks, tick);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized String toLog() {
+        final StringBuilder log = new StringBuilder(HEADER).append(NEW_LINE)
+            .append(new JSONObject()
+                .put(PLAYER_FIELD, this.playerName)
+                .put(SEED_FIELD, this.seed)
+                .put(WIDTH_FIELD, this.mapSize.getWidth())
+                .put(HEIGHT_FIELD, this.mapSize.getHeight())
+                .put(TICKS_FIELD, this.ticks))
+            .append(NEW_LINE);
+        this.commands.forEach(command -> log.append(command.toLog()).append(NEW_LINE));
+        return log.toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(final String filePath) throws IOException {
+        FileUtils.writeFileAtomically(filePath, this.toLog().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String write() throws IOException {
+        final Path folder = Paths.get(REPLAYS_FOLDER, this.playerName);
+        FileUtils.createFolder(folder.toString());
+        final String filePath = folder.resolve(String.format(FILE_FORMAT, System.currentTimeMillis())).toString();
+        this.write(filePath);
+        // keep only the latest replays
+        final List<Path> replays;
+        try (Stream<Path> files = Files.list(folder)) {
+            replays = files
+                .filter(f -> f.getFileName().toString().endsWith(EXTENSION))
+                .sorted()
+                .toList();
+        }
+        for (final Path replay : replays.subList(0, Math.max(0, replays.size() - Constants.REPLAY_HISTORY))) {
+            Files.deleteIfExists(replay);
+        }
+        return filePath;
+    }
+
+    /**
+     * Returns the replay from its log.
+     * @param log the replay log
+     * @return the replay
+     * @throws IllegalArgumentException if the log is not a valid replay log
+     */
+    public static Replay fromLog(final String log) {
+        final List<String> lines = log.lines().filter(line -> !line.isBlank()).toList();
+        if (lines.size() < 2 || !HEADER.equals(lines.get(0))) {
+            throw new IllegalArgumentException("Not a replay log");
+        }
+        try {
+            final JSONObject game = new JSONObject(lines.get(1));
+            return new ReplayImpl(
+                game.getString(PLAYER_FIELD),
+                Size.of(game.getInt(WIDTH_FIELD), game.getInt(HEIGHT_FIELD)),
+                game.getLong(SEED_FIELD),
+                lines.subList(2, lines.size()).stream().map(ReplayCommand::fromLog).toList(),
+                game.getLong(TICKS_FIELD)
+            );
+        } catch (final JSONException e) {
+            throw new IllegalArgumentException("Invalid replay game line", e);
+        }
+    }
+
+    /**
+     * Reads a replay from a file.
+     * @param filePath the path of the file
+     * @return the replay
+     * @throws IOException if the file cannot be read or is not a valid replay
+     */
+    public static Replay read(final String filePath) throws IOException {
+        try {
+            return fromLog(FileUtils.readFile(filePath));
+        } catch (final IllegalArgumentException e) {
+            throw new IOException("Invalid replay file: " + filePath, e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package it.unibo.towerdefense.model.replay;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import it.unibo.towerdefense.model.ModelImpl;
+
+/**
+ * Plays replays headless, updating the model as fast as possible.
+ * The game is started from the seed of the replay and every command is applied
+ * after as many updates as in the recorded game, so that recorded games can be
+ * used as repeatable load tests and regression checks.
+ */
+public final class ReplayPlayer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplayPlayer.class);
+
+    private ReplayPlayer() {
+    }
+
+    /**
+     * Plays a replay on a new model, which is not autosaved.
+     * While the game is paused no update is done, as in the game loop,
+     * until the command resuming it.
+     * @param replay the replay to play
+     * @return the outcome of the replay
+     */
+    public static ReplayResult play(final Replay replay) {
+        final ModelImpl model = new ModelImpl(false);
+        model.init(replay.getPlayerName(), replay.getMapSize(), replay.getSeed());
+        model.resume();
+        model.startWave();
+        final long ticks = replay.getTicks();
+        final Iterator<ReplayCommand> commands = replay.getCommands().iterator();
+        ReplayCommand next = commands.hasNext() ? commands.next() : null;
+        final long start = System.nanoTime();
+        long tick = 0;
+        while (tick < ticks && !model.isGameOver()) {
+            // apply the commands issued before this update
+            while (Objects.nonNull(next) && next.getTick() <= tick) {
+                next.apply(model);
+                next = commands.hasNext() ? commands.next() : null;
+            }
+            if (model.isPlaying()) {
+                model.update();
+                tick++;
+            } else {
+                // the game loop waits for the next command
+                tick = Objects.isNull(next) ? ticks : next.getTick();
+            }
+        }
+        return new ReplayResult(model.getGame().toDTO(), tick, System.nanoTime() - start);
+    }
+
+    /**
+     * Plays the replay files given as arguments, logging their outcome.
+     * @param args the paths of the replay files
+     * @throws IOException if a replay file cannot be read
+     */
+    public static void main(final String[] args) throws IOException {
+        for (final String filePath : args) {
+            final ReplayResult result = play(Replay.read(filePath));
+            LOGGER.info(
+                "{}: {} ticks in {} ms, wave {}, lives {}, money {}",
+                filePath,
+                result.ticks(),
+                TimeUnit.NANOSECONDS.toMillis(result.elapsedNanos()),
+                result.game().getWave(),
+                result.game().getLives(),
+                result.game().getMoney()
+            );
+        }
+    }
+}
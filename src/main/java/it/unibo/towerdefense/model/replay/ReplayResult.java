@@ -0,0 +1,31 @@
+package it.unibo.towerdefense.model.replay;
+
+import it.unibo.towerdefense.commons.dtos.game.GameDTO;
+
+/**
+ * The outcome of playing a replay.
+ * @param game the state of the game once the replay ended
+ * @param ticks the number of ticks played
+ * @param elapsedNanos the time spent playing, in nanoseconds
+ */
+public record ReplayResult(GameDTO game, long ticks, long elapsedNanos) {
+
+    /**
+     * Constructor copying the game state.
+     * @param game the state of the game once the replay ended
+     * @param ticks the number of ticks played
+     * @param elapsedNanos the time spent playing, in nanoseconds
+     */
+    public ReplayResult {
+        game = game.copy();
+    }
+
+    /**
+     * Returns the state of the game once the replay ended.
+     * @return a copy of the game state
+     */
+    @Override
+    public GameDTO game() {
+        return this.game.copy();
+    }
+}
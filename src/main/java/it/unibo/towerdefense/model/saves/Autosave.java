@@ -0,0 +1,43 @@
+package it.unibo.towerdefense.model.saves;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Interface that defines the periodic autosave of a game.
+ */
+public interface Autosave {
+
+    /**
+     * Notifies that the game reached a new wave, autosaving it if it is due.
+     * The game and defenses suppliers are called on the calling thread only when
+     * an autosave is due, the autosave is then written in background.
+     * The map never changes during a game, so its supplier is called in background
+     * and only when a full snapshot is stored.
+     * @param wave the reached wave
+     * @param gameJson the supplier of the json representation of the game
+     * @param defensesJson the supplier of the json representation of the defenses
+     * @param mapJson the supplier of the json representation of the map
+     * @return a future completed with true once the autosave has been written,
+     *         false if it was not due or could not be written
+     */
+    CompletableFuture<Boolean> onWave(
+        int wave,
+        Supplier<String> gameJson,
+        Supplier<String> defensesJson,
+        Supplier<String> mapJson
+    );
+
+    /**
+     * Deletes all the autosaves of the player, once the game can't be resumed anymore.
+     * @return a future completed once the autosaves have been deleted
+     */
+    CompletableFuture<Void> clear();
+
+    /**
+     * Loads the most recent autosave of the player.
+     * @return the most recent autosave, empty if there are none or it cannot be restored
+     */
+    Optional<Save> loadLatest();
+}
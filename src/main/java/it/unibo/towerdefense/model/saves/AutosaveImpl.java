@@ -0,0 +1,318 @@
+package it.unibo.towerdefense.model.saves;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import it.unibo.towerdefense.commons.Constants;
+import it.unibo.towerdefense.commons.utils.file.FileUtils;
+import it.unibo.towerdefense.model.defenses.costants.DefenseMapKeys;
+
+/**
+ * Class implementing the Autosave interface.
+ * Autosaves are numbered: most of them are deltas holding only the game
+ * statistics and the defenses changed since the previous autosave, while every
+ * few deltas a full snapshot, including the map, is stored in the binary format.
+ * The map never changes during a game, so it is stored only in full snapshots.
+ * Only the most recent autosaves are kept, together with the snapshot they start from.
+ */
+public class AutosaveImpl implements Autosave {
+
+    private static final String AUTOSAVES_FOLDER = Constants.GAME_FOLDER
+            + File.separator
+            + "autosaves";
+    private static final String FULL_EXTENSION = "full";
+    private static final String DELTA_EXTENSION = "delta";
+    private static final String FILE_FORMAT = "%010d.%s";
+    private static final String DATE_FIELD = "date";
+    private static final String CHANGED_FIELD = "changed";
+    private static final String REMOVED_FIELD = "removed";
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(
+        new ThreadFactoryBuilder().setNameFormat("Autosave-%d").setDaemon(true).build()
+    );
+
+    private final Logger logger =
+        LoggerFactory.getLogger(AutosaveImpl.class);
+    private final Path folder;
+    private final int interval;
+    private final int compaction;
+    private final int history;
+    // the following fields are used only by the autosave thread
+    private Map<String, JSONObject> previousDefenses;
+    private int deltas;
+    // the number of the latest autosave, negative until it is read from the folder
+    private long sequence = -1;
+
+    /**
+     * Constructor with player's name.
+     * Autosaves are stored in the default folder with the default policy.
+     * @param playerName the name of the player
+     * @throws IOException if the folder cannot be created
+     */
+    public AutosaveImpl(final String playerName) throws IOException {
+        this(
+            playerName,
+            AUTOSAVES_FOLDER,
+            Constants.AUTOSAVE_INTERVAL,
+            Constants.AUTOSAVE_COMPACTION,
+            Constants.AUTOSAVE_HISTORY
+        );
+    }
+
+    /**
+     * Constructor with player's name, file path and the autosave policy.
+     * @param playerName the name of the player
+     * @param path the path of the folder containing the autosaves
+     * @param interval the number of waves between two autosaves
+     * @param compaction the number of consecutive deltas before a full snapshot
+     * @param history the number of autosaves to keep
+     * @throws IOException if the folder cannot be created
+     */
+    public AutosaveImpl(
+        final String playerName,
+        final String path,
+        final int interval,
+        final int compaction,
+        final int history
+    ) throws IOException {
+        if (interval <= 0 || compaction < 0 || history <= 0) {
+            throw new IllegalArgumentException("Invalid autosave policy");
+        }
+        this.folder = Paths.get(path, playerName);
+        this.interval = interval;
+        this.compaction = compaction;
+        this.history = history;
+        FileUtils.createFolder(this.folder.toString());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Boolean> onWave(
+        final int wave,
+        final Supplier<String> gameJson,
+        final Supplier<String> defensesJson,
+        final Supplier<String> mapJson
+    ) {
+        if (wave % this.interval != 0) {
+            return CompletableFuture.completedFuture(false);
+        }
+        // only the snapshot is taken on the calling thread
+        final String game = gameJson.get();
+        final String defenses = defensesJson.get();
+        final Date date = new Date();
+        return CompletableFuture.supplyAsync(() -> this.write(game, defenses, mapJson, date), EXECUTOR);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> clear() {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                for (final Path autosave : this.listAutosaves()) {
+                    Files.deleteIfExists(autosave);
+                }
+            } catch (final IOException e) {
+                logger.warn("Error deleting autosaves", e);
+            }
+            this.previousDefenses = null;
+        }, EXECUTOR);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Save> loadLatest() {
+        try {
+            final List<Path> autosaves = this.listAutosaves();
+            if (autosaves.isEmpty()) {
+                return Optional.empty();
+            }
+            // find the full snapshot the latest autosave starts from
+            int base = autosaves.size() - 1;
+            while (base >= 0 && !isFull(autosaves.get(base))) {
+                base--;
+            }
+            if (base < 0) {
+                throw new IOException("Missing full autosave");
+            }
+            final Save full = SaveBinaryCodec.decode(Files.readAllBytes(autosaves.get(base)));
+            final Map<String, JSONObject> defenses = indexDefenses(full.getDefensesJson());
+            String game = full.getGameJson();
+            Date date = full.getDate();
+            // apply the following deltas in order
+            for (int i = base + 1; i < autosaves.size(); i++) {
+                if (sequenceOf(autosaves.get(i)) != sequenceOf(autosaves.get(i - 1)) + 1) {
+                    throw new IOException("Missing autosave before " + autosaves.get(i));
+                }
+                final JSONObject delta = new JSONObject(FileUtils.readFile(autosaves.get(i)));
+                final JSONArray removed = delta.getJSONArray(REMOVED_FIELD);
+                for (int j = 0; j < removed.length(); j++) {
+                    defenses.remove(removed.getString(j));
+                }
+                defenses.putAll(indexDefenses(delta.getJSONArray(CHANGED_FIELD).toString()));
+                game = delta.getString(SaveFieldsEnum.GAME.toString());
+                date = new Date(delta.getLong(DATE_FIELD));
+            }
+            return Optional.of(new SaveImpl(
+                Map.of(
+                    SaveFieldsEnum.GAME, game,
+                    SaveFieldsEnum.MAP, full.getMapJson(),
+                    SaveFieldsEnum.DEFENSES, new JSONArray(defenses.values()).toString()
+                ),
+                date
+            ));
+        } catch (final IOException | JSONException | IllegalStateException e) {
+            logger.error("Error restoring the latest autosave", e);
+            return Optional.empty();
+        }
+    }
+
+    private boolean write(
+        final String game,
+        final String defenses,
+        final Supplier<String> mapJson,
+        final Date date
+    ) {
+        final Map<String, JSONObject> current = indexDefenses(defenses);
+        try {
+            if (this.previousDefenses == null || this.deltas >= this.compaction) {
+                // full snapshot, which starts a new chain of deltas
+                final Save save = new SaveImpl(
+                    Map.of(
+                        SaveFieldsEnum.GAME, game,
+                        SaveFieldsEnum.MAP, mapJson.get(),
+                        SaveFieldsEnum.DEFENSES, defenses
+                    ),
+                    date
+                );
+                FileUtils.writeFileAtomically(this.nextFile(FULL_EXTENSION), SaveBinaryCodec.encode(save));
+                this.deltas = 0;
+            } else {
+                final JSONObject delta = new JSONObject()
+                    .put(DATE_FIELD, date.getTime())
+                    .put(SaveFieldsEnum.GAME.toString(), game)
+                    .put(CHANGED_FIELD, new JSONArray(
+                        current.entrySet().stream()
+                            .filter(e -> !this.isUnchanged(e.getKey(), e.getValue()))
+                            .map(Map.Entry::getValue)
+                            .toList()
+                    ))
+                    .put(REMOVED_FIELD, new JSONArray(
+                        this.previousDefenses.keySet().stream()
+                            .filter(position -> !current.containsKey(position))
+                            .toList()
+                    ));
+                FileUtils.writeFileAtomically(
+                    this.nextFile(DELTA_EXTENSION),
+                    delta.toString().getBytes(StandardCharsets.UTF_8)
+                );
+                this.deltas++;
+            }
+        } catch (final IOException e) {
+            logger.error("Error writing autosave", e);
+            // the next autosave can't be a delta of a missing one
+            this.previousDefenses = null;
+            return false;
+        }
+        this.previousDefenses = current;
+        this.prune();
+        return true;
+    }
+
+    private boolean isUnchanged(final String position, final JSONObject defense) {
+        return this.previousDefenses.containsKey(position)
+            && this.previousDefenses.get(position).similar(defense);
+    }
+
+    private String nextFile(final String extension) throws IOException {
+        if (this.sequence < 0) {
+            // continue the numbering of the previous games, read on the autosave thread
+            // once the autosaves of the previous instances have been written
+            this.sequence = this.listAutosaves().stream()
+                .mapToLong(AutosaveImpl::sequenceOf)
+                .max()
+                .orElse(0);
+        }
+        this.sequence++;
+        return this.folder.resolve(String.format(FILE_FORMAT, this.sequence, extension)).toString();
+    }
+
+    /**
+     * Deletes the autosaves older than the history, keeping the full snapshot
+     * the oldest kept autosave starts from.
+     */
+    private void prune() {
+        try {
+            final List<Path> autosaves = this.listAutosaves();
+            int oldest = Math.max(0, autosaves.size() - this.history);
+            while (oldest > 0 && !isFull(autosaves.get(oldest))) {
+                oldest--;
+            }
+            for (final Path autosave : autosaves.subList(0, oldest)) {
+                Files.deleteIfExists(autosave);
+            }
+        } catch (final IOException e) {
+            logger.warn("Error deleting old autosaves", e);
+        }
+    }
+
+    /**
+     * Lists the autosaves of the folder, from the oldest to the latest.
+     */
+    private List<Path> listAutosaves() throws IOException {
+        try (Stream<Path> files = Files.list(this.folder)) {
+            return files
+                .filter(f -> isFull(f) || f.getFileName().toString().endsWith("." + DELTA_EXTENSION))
+                .sorted()
+                .toList();
+        }
+    }
+
+    private static boolean isFull(final Path autosave) {
+        return autosave.getFileName().toString().endsWith("." + FULL_EXTENSION);
+    }
+
+    private static long sequenceOf(final Path autosave) {
+        final String name = autosave.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.indexOf('.')));
+    }
+
+    /**
+     * Indexes the defenses by their position, which identifies them on the map.
+     */
+    private static Map<String, JSONObject> indexDefenses(final String defensesJson) {
+        final JSONArray defenses = new JSONArray(defensesJson);
+        final Map<String, JSONObject> index = new LinkedHashMap<>();
+        for (int i = 0; i < defenses.length(); i++) {
+            final JSONObject defense = defenses.getJSONObject(i);
+            index.put(defense.getString(DefenseMapKeys.POSITION), defense);
+        }
+        return index;
+    }
+}
@@ -1,8 +1,11 @@
 package it.unibo.towerdefense.model.saves;
 
 import java.util.Date;
+import java.util.List;
 
 import it.unibo.towerdefense.commons.api.JsonSerializable;
+import it.unibo.towerdefense.model.defenses.Defense;
+import it.unibo.towerdefense.model.map.GameMap;
 
 /**
  * Interface that models a game save.
@@ -20,6 +23,13 @@ public interface Save extends JsonSerializable {
      */
     String getFileName();
 
+    /**
+     * Returns the save file name in the given format.
+     * @param format the format the save is written in
+     * @return the file name
+     */
+    String getFileName(SaveFormat format);
+
     /**
      * Returns the save date.
      * @return the date
@@ -44,6 +54,18 @@ public interface Save extends JsonSerializable {
      */
     String getDefensesJson();
 
+    /**
+     * Returns the game map, a new object at every call.
+     * @return the game map
+     */
+    GameMap getMap();
+
+    /**
+     * Returns the list of game defenses, new objects at every call.
+     * @return the list of game defenses
+     */
+    List<Defense> getDefenses();
+
     /**
      * Returns the save object from JSON string.
      * @param jsonData the JSON representation of the save
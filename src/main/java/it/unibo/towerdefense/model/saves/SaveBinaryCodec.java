@@ -0,0 +1,350 @@
+package it.unibo.towerdefense.model.saves;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import it.unibo.towerdefense.commons.dtos.defenses.DefenseType;
+import it.unibo.towerdefense.commons.dtos.game.GameDTO;
+import it.unibo.towerdefense.commons.dtos.game.GameDTOImpl;
+import it.unibo.towerdefense.commons.engine.LogicalPosition;
+import it.unibo.towerdefense.commons.engine.Position;
+import it.unibo.towerdefense.commons.engine.PositionImpl;
+import it.unibo.towerdefense.commons.engine.SizeImpl;
+import it.unibo.towerdefense.model.defenses.Defense;
+import it.unibo.towerdefense.model.defenses.DefenseImpl;
+import it.unibo.towerdefense.model.game.GameStatus;
+import it.unibo.towerdefense.model.map.BuildableCell;
+import it.unibo.towerdefense.model.map.BuildableCellImpl;
+import it.unibo.towerdefense.model.map.Cell;
+import it.unibo.towerdefense.model.map.GameMap;
+import it.unibo.towerdefense.model.map.GameMapImpl;
+import it.unibo.towerdefense.model.map.MapDirection;
+import it.unibo.towerdefense.model.map.PathCell;
+import it.unibo.towerdefense.model.map.PathCellImpl;
+
+/**
+ * Class that encodes and decodes saves in the compact binary format.
+ * A binary save is made up of:
+ * - a header with the magic number, the format version and the save date
+ * - the game state as player name, lives, money, wave, status and seed
+ * - the map as its size, a bitset of the buildable cells and the path
+ *   from the spawn to the end, stored as one 2-bit direction code per cell
+ * - the defenses as type, level, stats and position tuples, each followed by its upgrades.
+ * The map and defenses sections are length-prefixed, so a save can be listed
+ * without decoding them.
+ */
+final class SaveBinaryCodec {
+
+    private static final int MAGIC = 0x54_44_53_56; // "TDSV"
+    private static final int VERSION = 2;
+    private static final int VERSION_WITHOUT_SEED = 1;
+    private static final int DIRECTION_BITS = 2;
+    private static final int DIRECTIONS_PER_BYTE = Byte.SIZE / DIRECTION_BITS;
+    private static final int DIRECTION_MASK = (1 << DIRECTION_BITS) - 1;
+
+    private SaveBinaryCodec() {
+    }
+
+    /**
+     * Checks whether the given file content is a binary save.
+     * @param data the content of the save file
+     * @return true if the content starts with the binary save header
+     */
+    static boolean isBinary(final byte[] data) {
+        return data.length >= Integer.BYTES && ByteBuffer.wrap(data).getInt() == MAGIC;
+    }
+
+    /**
+     * Encodes a save in the binary format.
+     * @param save the save to encode
+     * @return the binary representation of the save
+     */
+    static byte[] encode(final Save save) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeLong(save.getDate().getTime());
+            writeGame(out, GameDTO.fromJson(save.getGameJson()));
+            writeSection(out, section -> writeMap(section, save.getMap()));
+            writeSection(out, section -> {
+                final List<Defense> defenses = save.getDefenses();
+                section.writeShort(defenses.size());
+                for (final Defense defense : defenses) {
+                    writeDefense(section, defense);
+                }
+            });
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Error encoding save", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a save from the binary format.
+     * Only the header and the game state are decoded eagerly,
+     * the map and the defenses are decoded every time they are requested,
+     * straight into their objects, while their json representation is built only if requested.
+     * @param data the binary representation of the save
+     * @return the save object
+     */
+    static Save decode(final byte[] data) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            if (in.readInt() != MAGIC) {
+                throw new IllegalStateException("Not a binary save");
+            }
+            final int version = in.readUnsignedByte();
+            if (version != VERSION && version != VERSION_WITHOUT_SEED) {
+                throw new IllegalStateException("Unsupported save version " + version);
+            }
+            final Date date = new Date(in.readLong());
+            final String game = readGame(in, version).toJSON();
+            final byte[] map = readSection(in);
+            final byte[] defenses = readSection(in);
+            final Map<SaveFieldsEnum, Supplier<String>> sections = new EnumMap<>(SaveFieldsEnum.class);
+            sections.put(SaveFieldsEnum.GAME, () -> game);
+            sections.put(SaveFieldsEnum.MAP, () -> decodeSection(map, SaveBinaryCodec::readMap).toJSON());
+            sections.put(SaveFieldsEnum.DEFENSES, () -> {
+                // same layout produced by DefenseManagerImpl.toJSON
+                final JSONArray result = new JSONArray();
+                decodeSection(defenses, SaveBinaryCodec::readDefenses)
+                    .forEach(defense -> result.put(new JSONObject(defense.toJSON())));
+                return result.toString();
+            });
+            return SaveImpl.lazy(
+                sections,
+                () -> decodeSection(map, SaveBinaryCodec::readMap),
+                () -> decodeSection(defenses, SaveBinaryCodec::readDefenses),
+                date
+            );
+        } catch (final IOException e) {
+            throw new IllegalStateException("Invalid binary save", e);
+        }
+    }
+
+    private static void writeGame(final DataOutputStream out, final GameDTO game) throws IOException {
+        out.writeUTF(game.getPlayerName());
+        out.writeInt(game.getLives());
+        out.writeInt(game.getMoney());
+        out.writeInt(game.getWave());
+        out.writeByte(game.getStatus().ordinal());
+        out.writeLong(game.getSeed());
+    }
+
+    private static GameDTO readGame(final DataInputStream in, final int version) throws IOException {
+        final GameDTO game = new GameDTOImpl(
+            in.readUTF(),
+            in.readInt(),
+            in.readInt(),
+            in.readInt(),
+            GameStatus.values()[in.readUnsignedByte()]
+        );
+        if (version == VERSION_WITHOUT_SEED) {
+            return game;
+        }
+        return new GameDTOImpl(
+            game.getPlayerName(),
+            game.getLives(),
+            game.getMoney(),
+            game.getWave(),
+            game.getStatus(),
+            in.readLong()
+        );
+    }
+
+    private static void writeMap(final DataOutputStream out, final GameMap map) throws IOException {
+        final int width = map.getSize().getWidth();
+        final int height = map.getSize().getHeight();
+        out.writeShort(width);
+        out.writeShort(height);
+        // buildable flags, in the same column-major order of GameMap.getMap()
+        final BitSet buildable = new BitSet(width * height);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                if (map.getCellAt(new PositionImpl(x, y)) instanceof BuildableCell cell && cell.isBuildable()) {
+                    buildable.set(x * height + y);
+                }
+            }
+        }
+        final byte[] flags = buildable.toByteArray();
+        out.writeShort(flags.length);
+        out.write(flags);
+        // walk the path from the spawn, the end cell lies just outside the map
+        final PathCell spawn = map.getSpawnCell();
+        final List<PathCell> path = new ArrayList<>();
+        final Position pos = new PositionImpl(spawn.getX(), spawn.getY());
+        Cell cell = spawn;
+        while (cell instanceof PathCell pathCell) {
+            path.add(pathCell);
+            pos.add(pathCell.getOutDirection().asPosition());
+            cell = map.getCellAt(pos);
+        }
+        path.add(map.getEndCell());
+        if (path.size() != spawn.distanceToEnd() + 1) {
+            throw new IllegalStateException("The map path is not connected");
+        }
+        out.writeShort(spawn.getX());
+        out.writeShort(spawn.getY());
+        out.writeShort(path.size());
+        // each cell is entered from the direction the previous one exits to
+        final byte[] directions = new byte[(path.size() + DIRECTIONS_PER_BYTE - 1) / DIRECTIONS_PER_BYTE];
+        for (int i = 0; i < path.size(); i++) {
+            directions[i / DIRECTIONS_PER_BYTE] |= (byte) (path.get(i).getInDirection().ordinal()
+                << (i % DIRECTIONS_PER_BYTE * DIRECTION_BITS));
+        }
+        out.write(directions);
+        out.writeByte(map.getEndCell().getOutDirection().ordinal());
+    }
+
+    private static GameMap readMap(final DataInputStream in) throws IOException {
+        final int width = in.readUnsignedShort();
+        final int height = in.readUnsignedShort();
+        final byte[] flags = new byte[in.readUnsignedShort()];
+        in.readFully(flags);
+        final BitSet buildable = BitSet.valueOf(flags);
+        final Position pos = new PositionImpl(in.readUnsignedShort(), in.readUnsignedShort());
+        final int length = in.readUnsignedShort();
+        final byte[] codes = new byte[(length + DIRECTIONS_PER_BYTE - 1) / DIRECTIONS_PER_BYTE];
+        in.readFully(codes);
+        final MapDirection[] directions = new MapDirection[length + 1];
+        for (int i = 0; i < length; i++) {
+            directions[i] = MapDirection.values()[
+                codes[i / DIRECTIONS_PER_BYTE] >> (i % DIRECTIONS_PER_BYTE * DIRECTION_BITS) & DIRECTION_MASK
+            ];
+        }
+        directions[length] = MapDirection.values()[in.readUnsignedByte()];
+        // rebuild the path cells, the distance to the end is implied by the index
+        final boolean[][] onPath = new boolean[width][height];
+        final List<PathCell> path = new ArrayList<>(length);
+        PathCell spawn = null;
+        PathCell end = null;
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                pos.add(directions[i].asPosition());
+            }
+            final PathCell cell = new PathCellImpl(
+                new PositionImpl(pos.getX(), pos.getY()), directions[i], directions[i + 1], length - 1 - i
+            );
+            if (i == 0) {
+                spawn = cell;
+            }
+            if (i == length - 1) {
+                end = cell;
+            } else {
+                path.add(cell);
+                onPath[pos.getX()][pos.getY()] = true;
+            }
+        }
+        if (spawn == null || end == null) {
+            throw new IllegalStateException("The map path is empty");
+        }
+        final List<BuildableCell> cells = new ArrayList<>(width * height - path.size());
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                if (!onPath[x][y]) {
+                    cells.add(new BuildableCellImpl(new PositionImpl(x, y), buildable.get(x * height + y)));
+                }
+            }
+        }
+        return GameMapImpl.fromCells(new SizeImpl(width, height), path.stream(), cells.stream(), spawn, end);
+    }
+
+    private static void writeDefense(final DataOutputStream out, final Defense defense) throws IOException {
+        out.writeByte(defense.getType().ordinal());
+        out.writeByte(defense.getLevel());
+        out.writeInt(defense.getDamage());
+        out.writeInt(defense.getRange());
+        out.writeInt(defense.getAttackSpeed());
+        out.writeInt(defense.getBuildingCost());
+        out.writeInt(defense.getSellingValue());
+        // upgrades don't have a position
+        out.writeBoolean(defense.getPosition().isPresent());
+        if (defense.getPosition().isPresent()) {
+            out.writeInt(defense.getPosition().get().getX());
+            out.writeInt(defense.getPosition().get().getY());
+        }
+        out.writeByte(defense.getPossibleUpgrades().size());
+        for (final Defense upgrade : defense.getPossibleUpgrades()) {
+            writeDefense(out, upgrade);
+        }
+    }
+
+    private static Defense readDefense(final DataInputStream in) throws IOException {
+        final DefenseType type = DefenseType.values()[in.readUnsignedByte()];
+        final int level = in.readUnsignedByte();
+        final int damage = in.readInt();
+        final int range = in.readInt();
+        final int speed = in.readInt();
+        final int cost = in.readInt();
+        final int sellValue = in.readInt();
+        final Optional<LogicalPosition> position = in.readBoolean()
+            ? Optional.of(new LogicalPosition(in.readInt(), in.readInt()))
+            : Optional.empty();
+        final int upgradesCount = in.readUnsignedByte();
+        final Set<Defense> upgrades = new HashSet<>();
+        for (int i = 0; i < upgradesCount; i++) {
+            upgrades.add(readDefense(in));
+        }
+        return new DefenseImpl(type, level, damage, range, speed, cost, sellValue, position, null, upgrades);
+    }
+
+    private static List<Defense> readDefenses(final DataInputStream in) throws IOException {
+        final int count = in.readUnsignedShort();
+        final List<Defense> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(readDefense(in));
+        }
+        return result;
+    }
+
+    private static void writeSection(final DataOutputStream out, final SectionWriter writer) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream section = new DataOutputStream(bytes)) {
+            writer.write(section);
+        }
+        out.writeInt(bytes.size());
+        bytes.writeTo(out);
+    }
+
+    private static byte[] readSection(final DataInputStream in) throws IOException {
+        final byte[] section = new byte[in.readInt()];
+        in.readFully(section);
+        return section;
+    }
+
+    private static <T> T decodeSection(final byte[] section, final SectionReader<T> reader) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(section))) {
+            return reader.read(in);
+        } catch (final IOException e) {
+            throw new IllegalStateException("Invalid binary save section", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface SectionWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface SectionReader<T> {
+        T read(DataInputStream in) throws IOException;
+    }
+}
@@ -0,0 +1,37 @@
+package it.unibo.towerdefense.model.saves;
+
+/**
+ * Enum that contains the formats a save can be written in.
+ */
+public enum SaveFormat {
+    /**
+     * The JSON format, where every section is a nested JSON document.
+     */
+    JSON("json"),
+    /**
+     * The compact binary format, see {@link SaveBinaryCodec}.
+     */
+    BINARY("sav"),
+    /**
+     * The JSON format compressed with GZIP, decompressed and parsed while reading.
+     */
+    COMPRESSED_JSON("json.gz");
+
+    private final String extension;
+
+    /**
+     * Default constructor.
+     * @param extension the extension of the save files in this format
+     */
+    SaveFormat(final String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Returns the extension of the save files in this format.
+     * @return the file extension, without the dot
+     */
+    public String getExtension() {
+        return this.extension;
+    }
+}
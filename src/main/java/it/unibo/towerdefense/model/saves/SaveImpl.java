@@ -1,16 +1,25 @@
 package it.unibo.towerdefense.model.saves;
 
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.Date;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.stream.Collectors;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.function.Supplier;
 
+import org.json.JSONArray;
 import org.json.JSONObject;
 
 import com.google.common.base.Objects;
+import com.google.common.base.Suppliers;
+
+import it.unibo.towerdefense.model.defenses.Defense;
+import it.unibo.towerdefense.model.map.GameMap;
+import it.unibo.towerdefense.model.map.GameMapImpl;
 
 /**
  * Class implementing the Save interface.
@@ -18,11 +27,12 @@ import com.google.common.base.Objects;
 public class SaveImpl implements Save {
 
     private static final String DATE_FIELD = "name";
-    private static final String EXTENSION = "json";
     private static final String DATE_FORMAT = "yyyy-MM-dd_HH-mm-ss-SSS";
 
     private final Date date;
-    private final Map<SaveFieldsEnum, String> json;
+    private final Map<SaveFieldsEnum, Supplier<String>> json;
+    private final Supplier<GameMap> map;
+    private final Supplier<List<Defense>> defenses;
 
     /**
      * SaveImpl constructor from the json representation and date.
@@ -33,8 +43,42 @@ public class SaveImpl implements Save {
         final Map<SaveFieldsEnum, String> json,
         final Date date
     ) {
-        this.json = Map.copyOf(json);
+        this(
+            date,
+            json.entrySet().stream()
+                .collect(Collectors.toMap(
+                    Map.Entry::getKey,
+                    e -> Suppliers.ofInstance(e.getValue())
+                ))
+        );
+    }
+
+    private SaveImpl(
+        final Date date,
+        final Map<SaveFieldsEnum, Supplier<String>> json
+    ) {
+        this(
+            date,
+            json,
+            null,
+            null
+        );
+    }
+
+    /*
+     * The map and the defenses are parsed from their json representation,
+     * unless they can be built directly.
+     */
+    private SaveImpl(
+        final Date date,
+        final Map<SaveFieldsEnum, Supplier<String>> json,
+        final Supplier<GameMap> map,
+        final Supplier<List<Defense>> defenses
+    ) {
+        this.json = new EnumMap<>(json);
         this.date = new Date(date.getTime());
+        this.map = map != null ? map : () -> GameMapImpl.fromJson(this.getMapJson());
+        this.defenses = defenses != null ? defenses : () -> parseDefenses(this.getDefensesJson());
     }
 
     /**
@@ -70,10 +114,18 @@ public class SaveImpl implements Save {
      */
     @Override
     public String getFileName() {
+        return this.getFileName(SaveFormat.JSON);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getFileName(final SaveFormat format) {
         return String.format(
             "%s.%s",
             this.getFormattedDate(),
-            SaveImpl.EXTENSION
+            format.getExtension()
         );
     }
 
@@ -90,7 +142,7 @@ public class SaveImpl implements Save {
      */
     @Override
     public String getGameJson() {
-        return this.json.get(SaveFieldsEnum.GAME);
+        return this.json.get(SaveFieldsEnum.GAME).get();
     }
 
     /**
@@ -98,7 +150,7 @@ public class SaveImpl implements Save {
      */
     @Override
     public String getMapJson() {
-        return this.json.get(SaveFieldsEnum.MAP);
+        return this.json.get(SaveFieldsEnum.MAP).get();
     }
 
     /**
@@ -106,7 +158,23 @@ public class SaveImpl implements Save {
      */
     @Override
     public String getDefensesJson() {
-        return this.json.get(SaveFieldsEnum.DEFENSES);
+        return this.json.get(SaveFieldsEnum.DEFENSES).get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GameMap getMap() {
+        return this.map.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Defense> getDefenses() {
+        return this.defenses.get();
     }
 
     /**
@@ -119,18 +187,74 @@ public class SaveImpl implements Save {
         // Add all the fields to the JSON object
         List.of(SaveFieldsEnum.values())
             .forEach(field ->
-                obj.put(field.toString(), this.json.get(field)
+                obj.put(field.toString(), this.json.get(field).get()
             ));
         return obj.toString();
     }
 
+    /**
+     * Returns a save whose sections are computed only when first requested.
+     * Used by formats that can list a save without decoding all of its sections.
+     * @param sections the suppliers of the json representation of each section
+     * @param date the date of the save
+     * @return the save object
+     */
+    static Save lazy(
+        final Map<SaveFieldsEnum, Supplier<String>> sections,
+        final Date date
+    ) {
+        return new SaveImpl(
+            date,
+            sections.entrySet().stream()
+                .collect(Collectors.toMap(
+                    Map.Entry::getKey,
+                    e -> Suppliers.memoize(e.getValue()::get)
+                ))
+        );
+    }
+
+    /**
+     * Returns a save whose sections are computed only when first requested,
+     * while its map and defenses are built without going through their json representation.
+     * @param sections the suppliers of the json representation of each section
+     * @param map the supplier of a new game map
+     * @param defenses the supplier of new game defenses
+     * @param date the date of the save
+     * @return the save object
+     */
+    static Save lazy(
+        final Map<SaveFieldsEnum, Supplier<String>> sections,
+        final Supplier<GameMap> map,
+        final Supplier<List<Defense>> defenses,
+        final Date date
+    ) {
+        return new SaveImpl(
+            date,
+            sections.entrySet().stream()
+                .collect(Collectors.toMap(
+                    Map.Entry::getKey,
+                    e -> Suppliers.memoize(e.getValue()::get)
+                )),
+            map,
+            defenses
+        );
+    }
+
     /**
      * Returns the save object from JSON string.
      * @param jsonData the JSON representation of the save
      * @return the save object
      */
     public static Save fromJson(final String jsonData) {
-        final JSONObject jsonObject = new JSONObject(jsonData);
+        return fromJson(new JSONObject(jsonData));
+    }
+
+    /**
+     * Returns the save object from its parsed JSON representation.
+     * @param jsonObject the JSON representation of the save
+     * @return the save object
+     */
+    static Save fromJson(final JSONObject jsonObject) {
         final String date = jsonObject.getString(DATE_FIELD);
         // create the map from the JSON object
         final Map<SaveFieldsEnum, String> json = List.of(SaveFieldsEnum.values())
@@ -152,6 +276,14 @@ public class SaveImpl implements Save {
         }
     }
 
+    private static List<Defense> parseDefenses(final String jsonData) {
+        final List<Defense> defenses = new ArrayList<>();
+        for (final Object defense : new JSONArray(jsonData)) {
+            defenses.add(Defense.fromJson(defense.toString()));
+        }
+        return defenses;
+    }
+
     /**
      * {@inheritDoc}
      */
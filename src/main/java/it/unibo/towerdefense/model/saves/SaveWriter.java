@@ -0,0 +1,17 @@
+package it.unibo.towerdefense.model.saves;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Interface that defines a service writing the game's saves in background.
+ */
+public interface SaveWriter {
+
+    /**
+     * Requests a save to be written, saves are written in the order they are requested.
+     * The save must be a snapshot of the game state, since it is serialized on another thread.
+     * @param save the Save to be written
+     * @return a future completed with true if the save has been written, false otherwise
+     */
+    CompletableFuture<Boolean> write(Save save);
+}
@@ -0,0 +1,37 @@
+package it.unibo.towerdefense.model.saves;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Class implementing the SaveWriter interface.
+ * Saves are encoded and written by a single background thread,
+ * so that neither the game loop nor the UI wait for the disk.
+ */
+public class SaveWriterImpl implements SaveWriter {
+
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(
+        new ThreadFactoryBuilder().setNameFormat("SaveWriter-%d").setDaemon(true).build()
+    );
+
+    private final Saves saves;
+
+    /**
+     * Constructor with the saves the snapshots are written to.
+     * @param saves the saves of the player
+     */
+    public SaveWriterImpl(final Saves saves) {
+        this.saves = saves;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Boolean> write(final Save save) {
+        return CompletableFuture.supplyAsync(() -> this.saves.writeSave(save), EXECUTOR);
+    }
+}
@@ -2,6 +2,8 @@ package it.unibo.towerdefense.model.saves;
 
 import java.util.List;
 
+import it.unibo.towerdefense.commons.api.PagedSource;
+
 /**
  * Interface that defines the methods to load and save the game's save.
  */
@@ -13,6 +15,13 @@ public interface Saves {
      */
     List<Save> loadSaves();
 
+    /**
+     * Lists the saved games of user's local folder, ordered by date.
+     * Each page of saves is materialized only when it is requested.
+     * @return the paged source of saved games
+     */
+    PagedSource<Save> listSaves();
+
     /**
      * Writes the game's save to the user's local folder.
      * @param save the Save to be saved.
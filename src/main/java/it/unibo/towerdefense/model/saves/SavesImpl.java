@@ -1,20 +1,41 @@
 package it.unibo.towerdefense.model.saves;
 
+import java.util.Comparator;
+import java.util.Date;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 import java.util.Optional;
+import java.util.function.Supplier;
 
-import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.json.JSONObject;
+import org.json.JSONTokener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.google.common.base.Suppliers;
 
 import it.unibo.towerdefense.commons.Constants;
+import it.unibo.towerdefense.commons.api.PagedSource;
 import it.unibo.towerdefense.commons.utils.file.FileUtils;
 
 /**
@@ -26,46 +47,167 @@ public class SavesImpl implements Saves {
             + File.separator
             + "saves";
 
+    /*
+     * Guards the manifests, which are read and written by the UI and by the save writer.
+     */
+    private static final Object MANIFEST_LOCK = new Object();
+    private static final int HEADER_LENGTH = Integer.BYTES;
+
     private final Logger logger =
          LoggerFactory.getLogger(SavesImpl.class);
     private final String folderPath;
+    private final SaveFormat format;
 
     /**
-     * Constructor with player's name and file path.
+     * Constructor with player's name, file path and the format of written saves.
+     * Saves are loaded whatever their format is.
      * @param playerName the name of the player
      * @param path the path of the folder containing the saved games
+     * @param format the format new saves are written in
      * @throws IOException if the path cannot be created
      */
-    public SavesImpl(final String playerName, final String path) throws IOException {
+    public SavesImpl(final String playerName, final String path, final SaveFormat format) throws IOException {
         this.folderPath = path + File.separator + playerName;
+        this.format = format;
         // create the SAVED_GAMES_FOLDER if it does not exist
         FileUtils.createFolder(this.folderPath);
     }
 
+    /**
+     * Constructor with player's name and file path.
+     * Saves are written in the JSON format.
+     * @param playerName the name of the player
+     * @param path the path of the folder containing the saved games
+     * @throws IOException if the path cannot be created
+     */
+    public SavesImpl(final String playerName, final String path) throws IOException {
+        this(playerName, path, SaveFormat.JSON);
+    }
+
     /**
      * Constructor with player's name.
-     * The path is set to the default saves.
+     * The path is set to the default saves and saves are written in the binary format.
      * @param playerName the name of the player
      * @throws IOExceptions if the SAVED_GAMES_FOLDER cannot be created
      */
     public SavesImpl(final String playerName) throws IOException {
-        this(playerName, SAVED_GAMES_FOLDER);
+        this(playerName, SAVED_GAMES_FOLDER, SaveFormat.BINARY);
     }
 
     /**
      * {@inheritDoc}
+     * Saves are listed from the manifest of the folder, the body of each save
+     * is read only when its map or defenses are requested.
      */
     @Override
     public List<Save> loadSaves() {
+        final PagedSource<Save> saves = this.listSaves();
+        return saves.getPage(0, saves.size());
+    }
+
+    /**
+     * {@inheritDoc}
+     * The manifest of the folder is read once, the saves of a page are built
+     * from its entries when the page is requested.
+     */
+    @Override
+    public PagedSource<Save> listSaves() {
+        final Path folder = Paths.get(folderPath);
+        final SavesManifest manifest = new SavesManifest(folder);
+        try {
+            synchronized (MANIFEST_LOCK) {
+                if (!manifest.exists()) {
+                    this.rebuildManifest(manifest);
+                }
+                List<SavesManifest.Entry> entries;
+                try {
+                    entries = manifest.read();
+                } catch (final IOException e) {
+                    logger.warn("Rebuilding corrupted saves manifest", e);
+                    this.rebuildManifest(manifest);
+                    entries = manifest.read();
+                }
+                return PagedSource.of(entries).map(entry -> this.toSave(folder, entry));
+            }
+        } catch (final IOException e) {
+            logger.error("Error loading saves manifest, reading all the saves", e);
+        }
+        // fall back to reading the whole folder
+        return PagedSource.of(
+            this.scanSaves().stream()
+                .map(Pair::getRight)
+                .sorted(Comparator.comparing(Save::getDate))
+                .toList()
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean writeSave(final Save save) {
+        // construct the file name
+        final String fileName = save.getFileName(this.format);
+        final String filePath = this.folderPath + File.separator + fileName;
+        try {
+            // save the encoded Save object to file, never leaving it half written
+            FileUtils.writeFileAtomically(filePath, encode(save, this.format));
+            // a save loaded from another format must not be listed twice
+            for (final SaveFormat other : SaveFormat.values()) {
+                if (other != this.format) {
+                    Files.deleteIfExists(Paths.get(this.folderPath, save.getFileName(other)));
+                }
+            }
+        } catch (final IOException e) {
+            logger.error("Error writing save", e);
+            return false;
+        }
+        // list the save in the manifest
+        final SavesManifest manifest = new SavesManifest(Paths.get(this.folderPath));
+        try {
+            synchronized (MANIFEST_LOCK) {
+                if (manifest.exists()) {
+                    try {
+                        manifest.put(SavesManifest.Entry.of(save, fileName));
+                    } catch (final IOException e) {
+                        logger.warn("Rebuilding corrupted saves manifest", e);
+                        this.rebuildManifest(manifest);
+                    }
+                } else {
+                    this.rebuildManifest(manifest);
+                }
+            }
+        } catch (final IOException e) {
+            logger.error("Error updating saves manifest", e);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Creates the manifest of a folder from the saves it contains,
+     * for folders written before manifests were introduced.
+     */
+    private void rebuildManifest(final SavesManifest manifest) throws IOException {
+        manifest.write(
+            this.scanSaves().stream()
+                .map(p -> SavesManifest.Entry.of(p.getRight(), p.getLeft().getFileName().toString()))
+                .toList()
+        );
+    }
+
+    /**
+     * Reads and parses all the save files of the folder.
+     */
+    private List<Pair<Path, Save>> scanSaves() {
         // read all files from the folderPath
         try (Stream<Path> paths = Files.walk(Paths.get(folderPath))) {
             // for each file, read the content and convert it to a Game object
             return paths
                 .filter(Files::isRegularFile)
-                .map(FileUtils::readFileOptional)
+                .filter(SavesImpl::isSaveFile)
+                .map(path -> readOptional(path).map(save -> Pair.of(path, save)))
                 .flatMap(Optional::stream)
-                .filter(StringUtils::isNotEmpty)
-                .map(Save::fromJson)
                 .toList();
         } catch (final IOException e) {
             logger.error("Error loading saved games", e);
@@ -74,22 +216,83 @@ public class SavesImpl implements Saves {
         return List.of();
     }
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public boolean writeSave(final Save save) {
-        // convert the Save object to a JSON string
-        final String jsonData = save.toJSON();
-        // construct the file name
-        final String filePath = this.folderPath + File.separator + save.getFileName();
-        // save the JSON string to file
+    private Save toSave(final Path folder, final SavesManifest.Entry entry) {
+        final String game = entry.toGame().toJSON();
+        final Supplier<Save> body = Suppliers.memoize(() -> {
+            final Path path = folder.resolve(entry.fileName());
+            try {
+                return read(path);
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Error reading save " + path, e);
+            }
+        });
+        final Map<SaveFieldsEnum, Supplier<String>> sections = new EnumMap<>(SaveFieldsEnum.class);
+        sections.put(SaveFieldsEnum.GAME, () -> game);
+        sections.put(SaveFieldsEnum.MAP, () -> body.get().getMapJson());
+        sections.put(SaveFieldsEnum.DEFENSES, () -> body.get().getDefensesJson());
+        return SaveImpl.lazy(
+            sections,
+            () -> body.get().getMap(),
+            () -> body.get().getDefenses(),
+            new Date(entry.date())
+        );
+    }
+
+    private static boolean isSaveFile(final Path path) {
+        final String name = path.getFileName().toString();
+        return Stream.of(SaveFormat.values())
+            .anyMatch(format -> name.endsWith("." + format.getExtension()));
+    }
+
+    private static byte[] encode(final Save save, final SaveFormat format) throws IOException {
+        return switch (format) {
+            case BINARY -> SaveBinaryCodec.encode(save);
+            case COMPRESSED_JSON -> compress(save.toJSON());
+            case JSON -> save.toJSON().getBytes(StandardCharsets.UTF_8);
+        };
+    }
+
+    private static byte[] compress(final String json) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(bytes), StandardCharsets.UTF_8)) {
+            writer.write(json);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Optional<Save> readOptional(final Path path) {
         try {
-            FileUtils.writeFile(filePath, jsonData);
+            return Optional.of(read(path));
         } catch (final IOException e) {
-            logger.error("Error writing save", e);
-            return false;
+            return Optional.empty();
         }
-        return true;
+    }
+
+    /**
+     * Reads a save of any format, detected from the first bytes of the file.
+     * JSON saves, compressed or not, are parsed while they are read,
+     * without holding the whole document in memory.
+     */
+    private static Save read(final Path path) throws IOException {
+        try (InputStream input = new BufferedInputStream(Files.newInputStream(path))) {
+            input.mark(HEADER_LENGTH);
+            final byte[] header = input.readNBytes(HEADER_LENGTH);
+            input.reset();
+            if (header.length == 0) {
+                throw new EOFException("Empty save file " + path);
+            }
+            if (SaveBinaryCodec.isBinary(header)) {
+                return SaveBinaryCodec.decode(input.readAllBytes());
+            }
+            final InputStream json = isCompressed(header) ? new GZIPInputStream(input) : input;
+            return SaveImpl.fromJson(new JSONObject(
+                new JSONTokener(new InputStreamReader(json, StandardCharsets.UTF_8))
+            ));
+        }
+    }
+
+    private static boolean isCompressed(final byte[] header) {
+        return header.length >= Short.BYTES
+            && (header[0] & 0xff | (header[1] & 0xff) << Byte.SIZE) == GZIPInputStream.GZIP_MAGIC;
     }
 }
@@ -0,0 +1,172 @@
+package it.unibo.towerdefense.model.saves;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import it.unibo.towerdefense.commons.dtos.game.GameDTO;
+import it.unibo.towerdefense.commons.dtos.game.GameDTOImpl;
+import it.unibo.towerdefense.commons.utils.file.FileUtils;
+import it.unibo.towerdefense.model.game.GameStatus;
+
+/**
+ * Class that maintains the manifest of a player's saves folder.
+ * For every save the manifest holds only what is shown in the saves list:
+ * the file name, the date and the game statistics, so that saves
+ * can be listed without reading their bodies.
+ */
+final class SavesManifest {
+
+    /**
+     * The name of the manifest file, inside the saves folder.
+     */
+    static final String FILE_NAME = "saves.manifest";
+
+    private static final String FILE_FIELD = "file";
+    private static final String DATE_FIELD = "date";
+    private static final String PLAYER_FIELD = "player";
+    private static final String WAVE_FIELD = "wave";
+    private static final String MONEY_FIELD = "money";
+    private static final String LIVES_FIELD = "lives";
+    private static final String STATUS_FIELD = "status";
+    private static final String SEED_FIELD = "seed";
+
+    private final Path path;
+
+    /**
+     * Constructor with the saves folder.
+     * @param folder the folder containing the saves and the manifest
+     */
+    SavesManifest(final Path folder) {
+        this.path = folder.resolve(FILE_NAME);
+    }
+
+    /**
+     * Checks whether the manifest has been created.
+     * @return true if the manifest file exists
+     */
+    boolean exists() {
+        return Files.exists(this.path);
+    }
+
+    /**
+     * Reads the entries of the manifest.
+     * @return the entries, ordered by date
+     * @throws IOException if the manifest cannot be read or is corrupted
+     */
+    List<Entry> read() throws IOException {
+        try {
+            final JSONArray entries = new JSONArray(FileUtils.readFile(this.path));
+            return Stream.iterate(0, i -> i < entries.length(), i -> i + 1)
+                .map(entries::getJSONObject)
+                .map(entry -> new Entry(
+                    entry.getString(FILE_FIELD),
+                    entry.getLong(DATE_FIELD),
+                    entry.getString(PLAYER_FIELD),
+                    entry.getInt(WAVE_FIELD),
+                    entry.getInt(MONEY_FIELD),
+                    entry.getInt(LIVES_FIELD),
+                    entry.getEnum(GameStatus.class, STATUS_FIELD),
+                    entry.optLong(SEED_FIELD, 0)
+                ))
+                .toList();
+        } catch (final JSONException e) {
+            throw new IOException("Corrupted saves manifest " + this.path, e);
+        }
+    }
+
+    /**
+     * Adds the entry of a save, replacing the entry of the save with the same date.
+     * @param entry the entry of the written save
+     * @throws IOException if the manifest cannot be read or written
+     */
+    void put(final Entry entry) throws IOException {
+        this.write(Stream.concat(
+            this.read().stream().filter(e -> e.date() != entry.date()),
+            Stream.of(entry)
+        ).toList());
+    }
+
+    /**
+     * Replaces the content of the manifest.
+     * @param entries the entries of all the saves of the folder
+     * @throws IOException if the manifest cannot be written
+     */
+    void write(final List<Entry> entries) throws IOException {
+        final JSONArray json = new JSONArray(
+            entries.stream()
+                .sorted(Comparator.comparingLong(Entry::date))
+                .map(entry -> new JSONObject()
+                    .put(FILE_FIELD, entry.fileName())
+                    .put(DATE_FIELD, entry.date())
+                    .put(PLAYER_FIELD, entry.player())
+                    .put(WAVE_FIELD, entry.wave())
+                    .put(MONEY_FIELD, entry.money())
+                    .put(LIVES_FIELD, entry.lives())
+                    .put(STATUS_FIELD, entry.status())
+                    .put(SEED_FIELD, entry.seed()))
+                .collect(Collectors.toList())
+        );
+        FileUtils.writeFileAtomically(this.path.toString(), json.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * The manifest entry of a save.
+     * @param fileName the name of the save file, inside the saves folder
+     * @param date the date of the save in milliseconds
+     * @param player the name of the player
+     * @param wave the wave reached
+     * @param money the money of the player
+     * @param lives the lives of the player
+     * @param status the status of the game
+     * @param seed the seed of the randomness of the game
+     */
+    record Entry(
+        String fileName,
+        long date,
+        String player,
+        int wave,
+        int money,
+        int lives,
+        GameStatus status,
+        long seed
+    ) {
+
+        /**
+         * Creates the entry of a save.
+         * @param save the save
+         * @param fileName the name of its file
+         * @return the manifest entry
+         */
+        static Entry of(final Save save, final String fileName) {
+            final GameDTO game = GameDTO.fromJson(save.getGameJson());
+            return new Entry(
+                fileName,
+                save.getDate().getTime(),
+                game.getPlayerName(),
+                game.getWave(),
+                game.getMoney(),
+                game.getLives(),
+                game.getStatus(),
+                game.getSeed()
+            );
+        }
+
+        /**
+         * Returns the game statistics of the entry.
+         * @return the game statistics
+         */
+        GameDTO toGame() {
+            return new GameDTOImpl(this.player, this.lives, this.money, this.wave, this.status, this.seed);
+        }
+    }
+}
@@ -22,9 +22,10 @@ public interface Score extends JsonSerializable {
 
     /**
      * Returns the DTO representation of the score.
+     * @param rank the rank of the score in the scoreboard
      * @return the DTO object
      */
-    ScoreDTO toDTO();
+    ScoreDTO toDTO(int rank);
 
     /**
      * Returns the score object from JSON string.
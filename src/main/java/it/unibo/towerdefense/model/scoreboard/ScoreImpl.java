@@ -78,8 +78,8 @@ public class ScoreImpl implements Score {
      * {@inheritDoc}
      */
     @Override
-    public ScoreDTO toDTO() {
-       return new ScoreDTOImpl(this);
+    public ScoreDTO toDTO(final int rank) {
+       return new ScoreDTOImpl(this, rank);
     }
 
     /**
@@ -0,0 +1,146 @@
+package it.unibo.towerdefense.model.scoreboard;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the scores kept sorted by rank: by wave, from the highest,
+ * then by the order the scores were saved in.
+ * A single score is inserted in place with a binary search, while a batch of
+ * scores is appended and sorted once, as the sort is stable.
+ */
+final class ScoreIndex {
+
+    private static final Comparator<Score> RANKING =
+        Comparator.comparingInt(Score::getWave).reversed();
+
+    private final List<Score> ranking = new ArrayList<>();
+    private final List<Score> best = new ArrayList<>();
+    private final Map<String, Score> bestByPlayer = new HashMap<>();
+
+    /**
+     * Adds a score, which ranks after the scores reaching the same wave.
+     * @param score the score to add
+     */
+    void add(final Score score) {
+        insert(this.ranking, score);
+        final Score previous = this.bestByPlayer.get(score.getName());
+        if (previous == null || previous.getWave() < score.getWave()) {
+            if (previous != null) {
+                this.removeBest(previous);
+            }
+            this.bestByPlayer.put(score.getName(), score);
+            insert(this.best, score);
+        }
+    }
+
+    /**
+     * Adds a batch of scores, in the order they were saved in.
+     * @param scores the scores to add
+     */
+    void addAll(final Collection<Score> scores) {
+        if (scores.size() == 1) {
+            this.add(scores.iterator().next());
+            return;
+        }
+        this.ranking.addAll(scores);
+        this.ranking.sort(RANKING);
+        // the first score of each player in the ranking is its best one
+        this.best.clear();
+        this.bestByPlayer.clear();
+        for (final Score score : this.ranking) {
+            if (this.bestByPlayer.putIfAbsent(score.getName(), score) == null) {
+                this.best.add(score);
+            }
+        }
+    }
+
+    /**
+     * Removes all the scores.
+     */
+    void clear() {
+        this.ranking.clear();
+        this.best.clear();
+        this.bestByPlayer.clear();
+    }
+
+    /**
+     * Returns the number of scores.
+     * @return the number of scores
+     */
+    int size() {
+        return this.ranking.size();
+    }
+
+    /**
+     * Returns a range of the ranking.
+     * @param from the position of the first score, from zero
+     * @param count the maximum number of scores
+     * @return the scores, ordered by rank
+     */
+    List<Score> get(final int from, final int count) {
+        return range(this.ranking, from, count);
+    }
+
+    /**
+     * Returns a range of the ranking of the best score of each player.
+     * @param from the position of the first score, from zero
+     * @param count the maximum number of scores
+     * @return the best scores, ordered by rank
+     */
+    List<Score> getBest(final int from, final int count) {
+        return range(this.best, from, count);
+    }
+
+    /**
+     * Returns the rank of a score reaching the given wave,
+     * which is one more than the number of scores reaching a higher wave.
+     * @param wave the wave reached
+     * @return the rank, starting from one
+     */
+    int rank(final int wave) {
+        return firstBelow(this.ranking, wave + 1) + 1;
+    }
+
+    private void removeBest(final Score score) {
+        // the score is among the ones reaching the same wave
+        for (int i = firstBelow(this.best, score.getWave() + 1); i < this.best.size(); i++) {
+            if (this.best.get(i) == score) {
+                this.best.remove(i);
+                return;
+            }
+        }
+    }
+
+    private static void insert(final List<Score> scores, final Score score) {
+        scores.add(firstBelow(scores, score.getWave()), score);
+    }
+
+    /**
+     * Returns the position of the first score reaching a lower wave than the given one.
+     */
+    private static int firstBelow(final List<Score> scores, final int wave) {
+        int low = 0;
+        int high = scores.size();
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (scores.get(mid).getWave() >= wave) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static List<Score> range(final List<Score> scores, final int from, final int count) {
+        final int start = Math.min(Math.max(from, 0), scores.size());
+        final int end = start + Math.min(Math.max(count, 0), scores.size() - start);
+        return Collections.unmodifiableList(new ArrayList<>(scores.subList(start, end)));
+    }
+}
@@ -15,6 +15,44 @@ public interface Scoreboard {
      */
     List<Score> getScoreboard();
 
+    /**
+     * Returns the number of the loaded Scores.
+     * @return the number of Scores
+     */
+    int getScoresCount();
+
+    /**
+     * Returns a page of the loaded Scores ordered by rank: by reached wave,
+     * from the highest, then by the order they were saved in.
+     * @param from the position of the first Score, from zero
+     * @param count the maximum number of Scores
+     * @return the unmodifiable list of Scores
+     */
+    List<Score> getRankedScores(int from, int count);
+
+    /**
+     * Returns the best loaded Scores, ordered by rank.
+     * @param count the maximum number of Scores
+     * @return the unmodifiable list of Scores
+     */
+    List<Score> getTopScores(int count);
+
+    /**
+     * Returns a page of the best loaded Score of each player, ordered by rank.
+     * @param from the position of the first Score, from zero
+     * @param count the maximum number of Scores
+     * @return the unmodifiable list of Scores
+     */
+    List<Score> getBestScoresPerPlayer(int from, int count);
+
+    /**
+     * Returns the rank of a Score reaching the given wave among the loaded Scores.
+     * Scores reaching the same wave share the same rank.
+     * @param wave the wave reached
+     * @return the rank, starting from one
+     */
+    int getRank(int wave);
+
     /**
      * Reads and loads the score from the local storage.
      * @throws IOException if the file cannot be read
@@ -2,9 +2,26 @@ package it.unibo.towerdefense.model.scoreboard;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.json.JSONArray;
 import org.json.JSONException;
@@ -12,23 +29,53 @@ import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import it.unibo.towerdefense.commons.Constants;
 import it.unibo.towerdefense.commons.utils.file.FileUtils;
 
 /**
  * Class implementing the Scoreboard interface.
+ * Scores are kept in an append-only log: a header line followed by one
+ * JSON record per line, so saving a score only appends its record.
+ * Game instances sharing the log coordinate through a lock on a sibling lock file,
+ * which also records the length of the log when it was last compacted: the log
+ * is compacted in background whenever it grew enough since then.
  */
 public class ScoreboardImpl implements Scoreboard {
 
     private static final String MESSAGE_ERROR = "Scoreboard file is corrupted!";
     private static final String SCOREBOARD_PATH = Constants.GAME_FOLDER
+            + File.separator
+            + "scoreboard.log";
+    private static final String LEGACY_SCOREBOARD_PATH = Constants.GAME_FOLDER
             + File.separator
             + "scoreboard.json";
+    private static final String LOCK_EXTENSION = ".lock";
+    private static final byte[] HEADER = "#towerdefense-scoreboard 1\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte NEW_LINE = '\n';
+    private static final String LEGACY_START = "[";
+    private static final long COMPACTION_BYTES = 64 * 1024;
+
+    /*
+     * Guards the logs inside this process: file locks are held by the whole
+     * process, so they only coordinate different game instances.
+     */
+    private static final Object LOCK = new Object();
+    private static final ExecutorService COMPACTOR = Executors.newSingleThreadExecutor(
+        new ThreadFactoryBuilder().setNameFormat("Scoreboard-%d").setDaemon(true).build()
+    );
 
     private final List<Score> scores = new ArrayList<>();
+    private final ScoreIndex index = new ScoreIndex();
     private final String filePath;
     private final Logger logger =
         LoggerFactory.getLogger(ScoreboardImpl.class);
+    private boolean loaded;
+    private Object fileKey;
+    private long position;
+    // the channel of the lock file, open only while the lock is held
+    private FileChannel lockChannel;
 
     /**
      * Constructor with file path.
@@ -43,10 +90,11 @@ public class ScoreboardImpl implements Scoreboard {
 
     /**
      * Zero-argument constructor.
+     * The scoreboard of older versions, if any, is moved to the default path.
      * @throws IOException if the scoreboard file cannot be created
      */
     public ScoreboardImpl() throws IOException {
-        this(SCOREBOARD_PATH);
+        this(moveLegacyScoreboard());
     }
 
     /**
@@ -61,51 +109,309 @@ public class ScoreboardImpl implements Scoreboard {
      * {@inheritDoc}
      */
     @Override
+    public int getScoresCount() {
+        return this.index.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Score> getRankedScores(final int from, final int count) {
+        return this.index.get(from, count);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Score> getTopScores(final int count) {
+        return this.index.get(0, count);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Score> getBestScoresPerPlayer(final int from, final int count) {
+        return this.index.getBest(from, count);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getRank(final int wave) {
+        return this.index.rank(wave);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Only the records appended since the last load are read.
+     */
+    @Override
     public void loadScores() throws IOException {
+        this.locked(this::catchUp);
+        this.loaded = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The record of the score is appended to the log, the loaded scores
+     * are kept up to date only if they have been loaded before.
+     */
+    @Override
+    public Score saveScore(final String name, final int wave) throws IOException {
+        final var score = new ScoreImpl(name, wave);
+        this.locked(() -> {
+            if (this.loaded) {
+                this.catchUp();
+            } else {
+                this.checkFormat();
+            }
+            final boolean torn = this.append(score);
+            if (this.loaded) {
+                this.scores.add(score);
+                this.index.add(score);
+                this.position = Files.size(this.path());
+                this.fileKey = fileKey(this.path());
+            }
+            if (torn || Files.size(this.path()) - this.compactedLength() >= COMPACTION_BYTES) {
+                this.compactLater();
+            }
+        });
+        // score saved
+        return score;
+    }
+
+    /**
+     * Reads the records appended since the last read, or the whole log
+     * if it has been replaced by a compaction.
+     */
+    private void catchUp() throws IOException {
+        final Path path = this.path();
         try {
-            // read the JSON string from file
-            final String jsonData = FileUtils.readFile(filePath);
-            this.scores.clear();
-            // if the file is empty return
-            if (jsonData.isEmpty()) {
-                return;
+            if (!this.isIndexed(path)) {
+                this.scores.clear();
+                this.index.clear();
+                this.position = 0;
+                this.checkFormat();
             }
-            // convert the JSON string to a set of Score objects
-            final JSONArray jsonArray = new JSONArray(jsonData);
-            for (final Object object : jsonArray) {
-                final JSONObject jsonObject = (JSONObject) object;
-                this.scores.add(Score.fromJson(jsonObject.toString()));
+            final byte[] data;
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+                InputStream input = Channels.newInputStream(channel.position(this.position))) {
+                data = input.readAllBytes();
             }
-        } catch (final JSONException e) {
+            final int start = this.position == 0 && data.length > 0 ? HEADER.length : 0;
+            final Records records = Records.parse(data, start);
+            this.scores.addAll(records.scores());
+            this.index.addAll(records.scores());
+            this.position += records.length();
+            this.fileKey = fileKey(path);
+            if (records.dropped() > 0) {
+                logger.warn("Dropping {} unreadable scoreboard records", records.dropped());
+                this.compactLater();
+            }
+        } catch (final IOException e) {
             this.scores.clear();
-            logger.error(MESSAGE_ERROR);
-            throw new IOException(MESSAGE_ERROR, e);
+            this.index.clear();
+            this.fileKey = null;
+            throw e;
         }
     }
 
+    private boolean isIndexed(final Path path) throws IOException {
+        final Object key = fileKey(path);
+        return key != null && key.equals(this.fileKey) && Files.size(path) >= this.position;
+    }
+
     /**
-     * {@inheritDoc}
+     * Checks that the file is empty or starts with the log header,
+     * converting the JSON array written by older versions.
      */
-    @Override
-    public Score saveScore(final String name, final int wave) throws IOException {
-        // load the current scores
-        this.loadScores();
-        // add the new score
-        final var score = new ScoreImpl(name, wave);
-        this.scores.add(score);
+    private void checkFormat() throws IOException {
+        final byte[] head;
+        try (InputStream input = Files.newInputStream(this.path())) {
+            head = input.readNBytes(HEADER.length);
+        }
+        if (head.length == 0 || Arrays.equals(head, HEADER)) {
+            return;
+        }
+        if (new String(head, StandardCharsets.UTF_8).strip().startsWith(LEGACY_START)) {
+            this.compact();
+            return;
+        }
+        logger.error(MESSAGE_ERROR);
+        throw new IOException(MESSAGE_ERROR);
+    }
+
+    /**
+     * Appends the record of a score, writing the header if the log is empty.
+     * @return true if the log ended with a torn record, which is now an unreadable line
+     */
+    private boolean append(final Score score) throws IOException {
+        try (FileChannel channel = FileChannel.open(this.path(), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final long size = channel.size();
+            final ByteBuffer last = ByteBuffer.allocate(1);
+            final boolean torn = size > 0 && channel.read(last, size - 1) == 1 && last.get(0) != NEW_LINE;
+            final StringBuilder record = new StringBuilder();
+            if (size == 0) {
+                record.append(new String(HEADER, StandardCharsets.UTF_8));
+            } else if (torn) {
+                record.append((char) NEW_LINE);
+            }
+            record.append(score.toJSON()).append((char) NEW_LINE);
+            final ByteBuffer buffer = ByteBuffer.wrap(record.toString().getBytes(StandardCharsets.UTF_8));
+            long offset = size;
+            while (buffer.hasRemaining()) {
+                offset += channel.write(buffer, offset);
+            }
+            channel.force(false);
+            return torn;
+        }
+    }
+
+    /**
+     * Rewrites the log with its readable records only.
+     * The new log replaces the old one atomically.
+     */
+    private void compact() throws IOException {
+        final byte[] data = Files.readAllBytes(this.path());
+        final List<Score> records;
         try {
-            // add each score to the a JSON array
-            final JSONArray jsonArray =  new JSONArray();
-            this.scores.forEach((s) ->
-                jsonArray.put(new JSONObject(s.toJSON()))
-            );
-            // save the json string to file
-            FileUtils.writeFile(filePath, jsonArray.toString());
+            records = Arrays.equals(Arrays.copyOf(data, HEADER.length), HEADER)
+                ? Records.parse(data, HEADER.length).scores()
+                : parseLegacy(new String(data, StandardCharsets.UTF_8));
         } catch (final JSONException e) {
             logger.error(MESSAGE_ERROR);
             throw new IOException(MESSAGE_ERROR, e);
         }
-        // score saved
-        return score;
+        final StringBuilder log = new StringBuilder(new String(HEADER, StandardCharsets.UTF_8));
+        records.forEach(score -> log.append(score.toJSON()).append((char) NEW_LINE));
+        final byte[] compacted = log.toString().getBytes(StandardCharsets.UTF_8);
+        FileUtils.writeFileAtomically(this.filePath, compacted);
+        this.setCompactedLength(compacted.length);
+    }
+
+    /**
+     * Returns the length of the log when it was last compacted, as recorded in the lock file.
+     * @return the length, zero if the log was never compacted
+     */
+    private long compactedLength() throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+        int read = 0;
+        while (buffer.hasRemaining() && read >= 0) {
+            read = this.lockChannel.read(buffer, buffer.position());
+        }
+        return buffer.hasRemaining() ? 0 : buffer.getLong(0);
+    }
+
+    private void setCompactedLength(final long length) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES).putLong(0, length);
+        while (buffer.hasRemaining()) {
+            this.lockChannel.write(buffer, buffer.position());
+        }
+    }
+
+    private void compactLater() {
+        COMPACTOR.execute(() -> {
+            try {
+                this.locked(this::compact);
+            } catch (final IOException e) {
+                logger.warn("Error compacting the scoreboard", e);
+            }
+        });
+    }
+
+    private void locked(final LockedOperation operation) throws IOException {
+        synchronized (LOCK) {
+            try (FileChannel channel = FileChannel.open(
+                    Paths.get(this.filePath + LOCK_EXTENSION),
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE
+                )) {
+                final FileLock lock = channel.lock();
+                try {
+                    this.lockChannel = channel;
+                    operation.run();
+                } finally {
+                    this.lockChannel = null;
+                    lock.release();
+                }
+            }
+        }
+    }
+
+    private Path path() {
+        return Paths.get(this.filePath);
+    }
+
+    /**
+     * Returns the identity of the log file, to tell whether it has been replaced.
+     * Where files have no key, e.g. on Windows, size and modification time are used
+     * instead, so any change made by other instances is taken as a replacement.
+     */
+    private static Object fileKey(final Path path) throws IOException {
+        final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        return Objects.requireNonNullElseGet(
+            attributes.fileKey(),
+            () -> List.of(attributes.size(), attributes.lastModifiedTime())
+        );
+    }
+
+    private static List<Score> parseLegacy(final String jsonData) {
+        final List<Score> legacy = new ArrayList<>();
+        for (final Object object : new JSONArray(jsonData)) {
+            final JSONObject jsonObject = (JSONObject) object;
+            legacy.add(Score.fromJson(jsonObject.toString()));
+        }
+        return legacy;
+    }
+
+    private static String moveLegacyScoreboard() throws IOException {
+        try {
+            FileUtils.createGameFolder();
+            Files.move(Paths.get(LEGACY_SCOREBOARD_PATH), Paths.get(SCOREBOARD_PATH));
+        } catch (final NoSuchFileException | FileAlreadyExistsException e) {
+            // nothing to move
+        }
+        return SCOREBOARD_PATH;
+    }
+
+    /**
+     * An operation run while holding the scoreboard lock.
+     */
+    @FunctionalInterface
+    private interface LockedOperation {
+        void run() throws IOException;
+    }
+
+    /**
+     * The records read from a part of the log.
+     * @param scores the readable records
+     * @param dropped the number of unreadable records
+     * @param length the number of bytes read, up to the last complete record
+     */
+    private record Records(List<Score> scores, int dropped, int length) {
+
+        static Records parse(final byte[] data, final int start) {
+            final List<Score> scores = new ArrayList<>();
+            int dropped = 0;
+            int begin = start;
+            for (int end = start; end < data.length; end++) {
+                if (data[end] == NEW_LINE) {
+                    final String line = new String(data, begin, end - begin, StandardCharsets.UTF_8);
+                    try {
+                        scores.add(Score.fromJson(line));
+                    } catch (final JSONException e) {
+                        dropped++;
+                    }
+                    begin = end + 1;
+                }
+            }
+            // a record without its new line is torn, it is skipped when appending
+            return new Records(scores, dropped, begin);
+        }
     }
 }
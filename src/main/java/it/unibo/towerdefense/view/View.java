@@ -15,6 +15,7 @@ import it.unibo.towerdefense.controller.gamelauncher.GameLauncherController;
 import it.unibo.towerdefense.controller.menu.StartMenuController;
 import it.unibo.towerdefense.controller.saves.SavesController;
 import it.unibo.towerdefense.model.game.GameStatus;
+import it.unibo.towerdefense.view.graphics.Interpolation;
 
 /**
  * Interface for the main View.
@@ -27,12 +28,28 @@ public interface View {
      */
     void displayLauncher(GameLauncherController controller);
 
+    /**
+     * Set the scale at which the game world is rendered before being upscaled,
+     * applied to the game window displayed afterwards.
+     * @param scale the ratio between the rendered size and the canvas size, in (0, 1]
+     * @param interpolation the interpolation used when upscaling
+     */
+    void setRenderScale(double scale, Interpolation interpolation);
+
     /**
      * Display the main game window.
      * @param size the size of the window
      */
     void displayWindow(Size size);
 
+    /**
+     * Starts loading in background the images needed to render the game,
+     * so that they are ready when the game starts.
+     * The window must be displayed before calling this method.
+     * @param mapSize the size of the map
+     */
+    void preloadAssets(Size mapSize);
+
     /**
      * Display the StartMenu.
      * @param menuController the Controller of the StartMenuView
@@ -131,4 +148,22 @@ public interface View {
      * @return the maximum resolution
      */
     Size getMaxResolution();
+
+    /**
+     * Get the refresh rate of the screen, the rate at which frames are worth rendering.
+     * @return the refresh rate in hertz, or a default rate if it is unknown
+     */
+    int getRefreshRate();
+
+    /**
+     * Returns whether the game window is on screen, so that rendering it is useful.
+     * @return true if the window is displayed, false if it is iconified, hidden or not created
+     */
+    boolean isDisplayed();
+
+    /**
+     * Adds an observer notified each time the game window is hidden or displayed again.
+     * @param observer the observer to add, notified with true when the window is displayed
+     */
+    void addDisplayObserver(Observer<Boolean> observer);
 }
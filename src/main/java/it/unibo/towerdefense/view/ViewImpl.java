@@ -1,8 +1,14 @@
 package it.unibo.towerdefense.view;
 
+import java.awt.DisplayMode;
+import java.awt.GraphicsEnvironment;
 import java.awt.Toolkit;
+import java.awt.image.BufferedImage;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.DoubleSupplier;
+import java.util.stream.Stream;
 
 import it.unibo.towerdefense.commons.dtos.game.ControlAction;
 import it.unibo.towerdefense.commons.dtos.game.GameDTO;
@@ -13,6 +19,7 @@ import it.unibo.towerdefense.commons.dtos.scoreboard.ScoreboardDTO;
 import it.unibo.towerdefense.commons.engine.Position;
 import it.unibo.towerdefense.commons.engine.Size;
 import it.unibo.towerdefense.commons.patterns.Observer;
+import it.unibo.towerdefense.commons.utils.images.ImageLoader;
 import it.unibo.towerdefense.controller.gamelauncher.GameLauncherController;
 import it.unibo.towerdefense.controller.menu.StartMenuController;
 import it.unibo.towerdefense.controller.saves.SavesController;
@@ -25,6 +32,7 @@ import it.unibo.towerdefense.view.game.GameRenderer;
 import it.unibo.towerdefense.view.game.GameRendererImpl;
 import it.unibo.towerdefense.view.gamelauncher.GameLauncherViewImpl;
 import it.unibo.towerdefense.view.gameover.GameOverViewImpl;
+import it.unibo.towerdefense.view.graphics.Interpolation;
 import it.unibo.towerdefense.view.graphics.Renderer;
 import it.unibo.towerdefense.view.graphics.RendererImpl;
 import it.unibo.towerdefense.view.map.BuyMenu;
@@ -43,6 +51,7 @@ import it.unibo.towerdefense.view.window.WindowImpl;
 public class ViewImpl implements View {
 
     private static final String WINDOW_ERROR = "Window not created yet";
+    private static final int DEFAULT_REFRESH_RATE = 60;
 
     private Window window;
     private Renderer renderer;
@@ -51,6 +60,9 @@ public class ViewImpl implements View {
     private DefenseRenderer defenseRenderer;
     private EnemyRenderer enemyRenderer;
     private BuyMenu buyMenu;
+    private List<CompletableFuture<BufferedImage>> preloading = List.of();
+    private double renderScale = 1.0;
+    private Interpolation interpolation = Interpolation.BILINEAR;
 
     /**
      * {@inheritDoc}
@@ -62,15 +74,44 @@ public class ViewImpl implements View {
         gameLauncherView.display();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setRenderScale(final double scale, final Interpolation interpolation) {
+        this.renderScale = scale;
+        this.interpolation = interpolation;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void displayWindow(final Size size) {
         this.window = new WindowImpl(size.copy());
+        this.window.setRenderScale(this.renderScale, this.interpolation);
         this.window.display();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void preloadAssets(final Size mapSize) {
+        if (Objects.isNull(this.window)) {
+            throw new IllegalStateException(WINDOW_ERROR);
+        }
+        // same cell size used by the renderer, so that the loaded images are found in the cache
+        final ImageLoader loader = new ImageLoader(
+            this.window.getRenderSize().getWidth() / (double) mapSize.getWidth()
+        );
+        this.preloading = Stream.of(
+            MapRendererImpl.preload(loader),
+            DefenseRendererImpl.preload(loader),
+            EnemyRendererImpl.preload(loader)
+        ).flatMap(List::stream).toList();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -91,7 +132,7 @@ public class ViewImpl implements View {
         if (Objects.isNull(this.window)) {
             throw new IllegalStateException(WINDOW_ERROR);
         }
-        final var startMenu = new StartMenuViewImpl(controller);
+        final var startMenu = new StartMenuViewImpl(controller, this.preloadProgress());
         this.window.displayModal("Start Menu", startMenu);
     }
 
@@ -169,8 +210,8 @@ public class ViewImpl implements View {
         this.renderer.clearCanvasQueue();
         // render state
         this.mapRenderer.render(this.renderer, state.getMap());
-        this.enemyRenderer.render(state.getEnemies());
-        this.defenseRenderer.render(state.getDefenses());
+        this.enemyRenderer.render(state.getEnemies(), state.getTick(), state.getInterpolation());
+        this.defenseRenderer.render(state.getDefenses(), state.getTick());
         // repaint canvas
         this.renderer.renderCanvas();
 
@@ -236,10 +277,55 @@ public class ViewImpl implements View {
         );
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getRefreshRate() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return DEFAULT_REFRESH_RATE;
+        }
+        final int rate = GraphicsEnvironment.getLocalGraphicsEnvironment()
+            .getDefaultScreenDevice()
+            .getDisplayMode()
+            .getRefreshRate();
+        return rate == DisplayMode.REFRESH_RATE_UNKNOWN ? DEFAULT_REFRESH_RATE : rate;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isDisplayed() {
+        return Objects.nonNull(this.window) && this.window.isDisplayed();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addDisplayObserver(final Observer<Boolean> observer) {
+        if (Objects.isNull(this.window)) {
+            throw new IllegalStateException(WINDOW_ERROR);
+        }
+        this.window.addDisplayObserver(observer);
+    }
+
+    /**
+     * Returns the fraction of preloaded images, failed loads are counted as done
+     * since they are reported when the renderers are created.
+     */
+    private DoubleSupplier preloadProgress() {
+        final List<CompletableFuture<BufferedImage>> futures = this.preloading;
+        return () -> futures.isEmpty()
+            ? 1.0
+            : futures.stream().filter(CompletableFuture::isDone).count() / (double) futures.size();
+    }
+
     private void initRenderers(final Size mapSize) {
         this.renderer = new RendererImpl(mapSize, this.window);
         // init renderers
-        this.mapRenderer = new MapRendererImpl(this.renderer.getImageLoader());
+        this.mapRenderer = new MapRendererImpl(this.renderer.getImageLoader(), mapSize);
         this.gameRenderer = new GameRendererImpl(this.renderer);
         this.defenseRenderer = new DefenseRendererImpl(this.renderer);
         this.enemyRenderer = new EnemyRendererImpl(this.renderer);
@@ -13,8 +13,10 @@ public interface AttackAnimation {
     LogicalPosition getAttacker();
     /**@return position of attacked entity.*/
     LogicalPosition getAttacked();
-    /**decreases life of animation.*/
-    void decreaseTimeToLive();
+    /**decreases life of animation.
+     * @param ticks the number of game updates elapsed.
+    */
+    void decreaseTimeToLive(long ticks);
     /**@return type of bullet to render.*/
     DefenseType bulletToRender();
 }
@@ -7,10 +7,11 @@ import it.unibo.towerdefense.commons.engine.LogicalPosition;
 public class AttackAnimationImpl implements AttackAnimation {
 
     /**private fields.*/
-    private int timeToLive;
+    private long timeToLive;
     private final  boolean isAreaBased;
     private final  LogicalPosition attacker, attacked;
     private final  DefenseType type;
+    /**duration of the animation in game updates, so that it doesn't depend on the frame rate.*/
     private static final int INITIAL_TIME_TO_LIVE = 40;
 
     /**Constructor.
@@ -64,8 +65,8 @@ public class AttackAnimationImpl implements AttackAnimation {
      * {@inheritDoc}
      */
     @Override
-    public void decreaseTimeToLive() {
-        this.timeToLive--;
+    public void decreaseTimeToLive(final long ticks) {
+        this.timeToLive -= ticks;
     }
 
     /**
@@ -9,6 +9,7 @@ import it.unibo.towerdefense.commons.dtos.defenses.DefenseDescription;
 public interface DefenseRenderer {
     /**Renders the given defenses based on their descriptions.
      * @param defenses the defenses to submit.
+     * @param tick the number of the last update of the game, used to age attack animations.
     */
-    void render(Stream<DefenseDescription> defenses);
+    void render(Stream<DefenseDescription> defenses, long tick);
 }
@@ -7,18 +7,25 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import java.awt.Image;
+import java.awt.image.BufferedImage;
 
 import it.unibo.towerdefense.commons.dtos.defenses.DefenseDescription;
 import it.unibo.towerdefense.commons.dtos.defenses.DefenseType;
+import it.unibo.towerdefense.commons.engine.LogicalPosition;
+import it.unibo.towerdefense.commons.utils.images.ImageLoader;
 import it.unibo.towerdefense.view.graphics.Renderer;
 import it.unibo.towerdefense.view.graphics.EmptyCircleDrawable;
 import it.unibo.towerdefense.view.graphics.ImageDrawable;
 import it.unibo.towerdefense.view.graphics.LineDrawable;
+import it.unibo.towerdefense.view.graphics.SceneGraph;
+import it.unibo.towerdefense.view.graphics.SceneGraphImpl;
 
     /**suppressing a warning to pass the renderer without errors.*/
     @SuppressFBWarnings(
@@ -29,10 +36,30 @@ import it.unibo.towerdefense.view.graphics.LineDrawable;
 /**Implementation of DefenseRenderer.*/
 public class DefenseRendererImpl implements DefenseRenderer {
 
+    /**number of levels of each defense.*/
+    private static final int LEVELS = 4;
+
+    /**for understanding if animations are area based.*/
+    private static final Map<DefenseType, Boolean> MATCH_AREA_BASED = Map.of(
+        DefenseType.ARCHERTOWER, false,
+        DefenseType.BOMBTOWER, true,
+        DefenseType.WIZARDTOWER, false,
+        DefenseType.THUNDERINVOKER, false
+    );
+
     private final Renderer renderer;
     private final List<AttackAnimation> attacks;
+    /**retained drawables, defenses and ranges are identified by their position.*/
+    private final SceneGraph<LogicalPosition, ImageDrawable> defenseNodes = new SceneGraphImpl<>(ImageDrawable::new);
+    private final SceneGraph<LogicalPosition, EmptyCircleDrawable> rangeNodes =
+        new SceneGraphImpl<>(() -> new EmptyCircleDrawable(Color.BLUE));
+    private final SceneGraph<AttackAnimation, LineDrawable> lineNodes =
+        new SceneGraphImpl<>(() -> new LineDrawable(Color.WHITE));
+    private final SceneGraph<AttackAnimation, ImageDrawable> bulletNodes = new SceneGraphImpl<>(ImageDrawable::new);
     private Map<DefenseType, List<Image>> mappedDefenseImages;
     private Map<DefenseType, Image> mappedBulletsImages;
+    /**tick of the last rendered frame, animations age by the updates elapsed since then.*/
+    private long lastTick = -1;
     /**for drawing range.*/
     private final Map<DefenseType, Color> matchColors = Map.of(
         DefenseType.ARCHERTOWER, Color.BLUE,
@@ -41,14 +68,6 @@ public class DefenseRendererImpl implements DefenseRenderer {
         DefenseType.THUNDERINVOKER, Color.RED
     );
 
-    /**for understanding if animations are area based.*/
-    private final Map<DefenseType, Boolean> matchAreaBased = Map.of(
-        DefenseType.ARCHERTOWER, false,
-        DefenseType.BOMBTOWER, true,
-        DefenseType.WIZARDTOWER, false,
-        DefenseType.THUNDERINVOKER, false
-    );
-
      /**
      * Constructor for this class.
      * @param renderer used to submit images.
@@ -63,13 +82,21 @@ public class DefenseRendererImpl implements DefenseRenderer {
      * {@inheritDoc}
      */
     @Override
-    public void render(final Stream<DefenseDescription> defenses) {
-            defenses.forEach(x -> {
-                renderDefenses(x);
-                addAttacks(x);
-                renderAttacks();
-            }
-        );
+    public void render(final Stream<DefenseDescription> defenses, final long tick) {
+        /**age the running animations before adding the attacks of this frame.*/
+        final long elapsed = lastTick < 0 ? 0 : Math.max(0, tick - lastTick);
+        lastTick = tick;
+        this.attacks.forEach(x -> x.decreaseTimeToLive(elapsed));
+        this.attacks.removeIf(x -> !x.isAlive());
+        defenseNodes.beginFrame();
+        rangeNodes.beginFrame();
+        defenses.forEach(x -> {
+            renderDefenses(x);
+            addAttacks(x);
+        });
+        renderer.submitAllToCanvas(defenseNodes.endFrame());
+        renderer.submitAllToCanvas(rangeNodes.endFrame());
+        renderAttacks();
     }
 
     /**loads an image for a given defense description.
@@ -77,38 +104,63 @@ public class DefenseRendererImpl implements DefenseRenderer {
     */
     private void renderDefenses(final DefenseDescription def) {
         final Image image = this.mappedDefenseImages.get(def.getType()).get(def.getLevel() - 1);
-           renderer.submitToCanvas(new ImageDrawable(image, def.getPosition().get()));
-           if (def.isFocused()) {
-                renderer.submitToCanvas(new EmptyCircleDrawable(def.getPosition().get(), def.getRange(),
-                matchColors.get(def.getType())));
-           }
+        final LogicalPosition position = def.getPosition().get();
+        defenseNodes.node(position).update(image, position);
+        if (def.isFocused()) {
+            rangeNodes.node(position).update(position, def.getRange(), matchColors.get(def.getType()));
+        }
     }
     /**Adds attacks to list.
      * @param def the description to take attacks from.
     */
     private void addAttacks(final DefenseDescription def) {
-        if (!matchAreaBased.get(def.getType())) {
+        if (!MATCH_AREA_BASED.get(def.getType())) {
                 def.getTargets().forEach(x ->
-                attacks.add(new AttackAnimationImpl(matchAreaBased.get(def.getType()),
+                attacks.add(new AttackAnimationImpl(MATCH_AREA_BASED.get(def.getType()),
                 def.getPosition().get(), x, def.getType()))
             );
         } else if (!def.getTargets().isEmpty()) {
-            attacks.add(new AttackAnimationImpl(matchAreaBased.get(def.getType()),
+            attacks.add(new AttackAnimationImpl(MATCH_AREA_BASED.get(def.getType()),
             def.getPosition().get(), def.getTargets().get(0), def.getType()));
         }
 
     }
 
-    /**renders bullets in game.*/
+    /**renders bullets in game, once per frame.*/
     private void renderAttacks() {
-        /**remove finished animations*/
-        this.attacks.removeIf(x -> !x.isAlive());
-
+        lineNodes.beginFrame();
+        bulletNodes.beginFrame();
         this.attacks.forEach(x -> {
-            renderer.submitToCanvas(new LineDrawable(x.getAttacked(), x.getAttacker(), Color.WHITE));
-            renderer.submitToCanvas(new ImageDrawable(mappedBulletsImages.get(x.bulletToRender()), x.getAttacked()));
-            x.decreaseTimeToLive();
+            lineNodes.node(x).update(x.getAttacked(), x.getAttacker(), Color.WHITE);
+            bulletNodes.node(x).update(mappedBulletsImages.get(x.bulletToRender()), x.getAttacked());
         });
+        renderer.submitAllToCanvas(lineNodes.endFrame());
+        renderer.submitAllToCanvas(bulletNodes.endFrame());
+    }
+
+    /**
+     * Requests in background the sprites of all bullets and defenses.
+     * @param loader the loader of the images.
+     * @return the futures of the requested images.
+     */
+    public static List<CompletableFuture<BufferedImage>> preload(final ImageLoader loader) {
+        return Stream.of(DefenseType.values())
+            .filter(defType -> defType != DefenseType.NOTOWER)
+            .flatMap(defType -> Stream.concat(
+                Stream.of(loader.loadImageAsync(DefenseImagePaths.buildBulletPath(defType), bulletSize(defType))),
+                IntStream.rangeClosed(1, LEVELS)
+                    .mapToObj(i -> loader.loadImageAsync(DefenseImagePaths.buildDefensePath(defType, i), 1))
+            ))
+            .toList();
+    }
+
+    /**size of the bullet of a defense type.
+     * @param defType the type of defense.
+     * @return the size in cells.
+    */
+    private static double bulletSize(final DefenseType defType) {
+        final int areaBasedSize = 1;
+        return MATCH_AREA_BASED.get(defType) ? areaBasedSize : 0.5;
     }
 
     /**loads sprites of bullets and defenses so that it's not necessary
@@ -123,9 +175,8 @@ public class DefenseRendererImpl implements DefenseRenderer {
             }
             /**Load bullets.*/
             try {
-                final int areaBasedSize = 1;
                 final Image bul = renderer.getImageLoader().loadImage(DefenseImagePaths.buildBulletPath(defType),
-                matchAreaBased.get(defType) ? areaBasedSize : 0.5);
+                bulletSize(defType));
                 mappedBulletsImages.put(defType, bul);
             } catch (IOException e) {
                 throw  new UncheckedIOException(e);
@@ -133,7 +184,7 @@ public class DefenseRendererImpl implements DefenseRenderer {
 
             /**Load defenses.*/
             final List<Image> images = new LinkedList<>();
-            for (int i = 1; i <= 4; i++) {
+            for (int i = 1; i <= LEVELS; i++) {
                 try {
                     final Image image = renderer.getImageLoader().loadImage(DefenseImagePaths.buildDefensePath(defType, i), 1);
                     images.add(image);
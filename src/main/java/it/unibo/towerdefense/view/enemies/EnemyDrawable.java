@@ -0,0 +1,120 @@
+package it.unibo.towerdefense.view.enemies;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.Rectangle;
+import java.util.Objects;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.unibo.towerdefense.commons.engine.LogicalPosition;
+import it.unibo.towerdefense.view.graphics.Drawable;
+import it.unibo.towerdefense.view.graphics.PixelTransform;
+
+/**
+ * Node representing an enemy, its sprite with the health bar on top of it,
+ * both centered on the position of the enemy.
+ * The positions of the enemy at the last two ticks are kept, and the enemy is
+ * drawn between them according to the fraction of the next tick elapsed.
+ */
+class EnemyDrawable extends Drawable {
+
+    private static final int NO_ENEMY = -1;
+
+    @SuppressFBWarnings(
+        value = "EI2",
+        justification = "Images are intentionally mutable and safe to store."
+    )
+    private Image sprite;
+    @SuppressFBWarnings(
+        value = "EI2",
+        justification = "Images are intentionally mutable and safe to store."
+    )
+    private Image healthBar;
+    private int centerX;
+    private int centerY;
+    private int enemyId = NO_ENEMY;
+    private long tick;
+    private int previousX;
+    private int previousY;
+    private int currentX;
+    private int currentY;
+
+    /**
+     * Updates in place the images and the position of the enemy.
+     *
+     * @param sprite the sprite of the enemy
+     * @param healthBar the health bar of the enemy
+     * @param id the id of the enemy
+     * @param pos the position of the enemy at the given tick
+     * @param tick the number of the tick the position belongs to
+     * @param alpha the fraction of the next tick elapsed, in [0, 1]
+     */
+    void update(
+        final Image sprite,
+        final Image healthBar,
+        final int id,
+        final LogicalPosition pos,
+        final long tick,
+        final double alpha
+    ) {
+        if (this.sprite != sprite || this.healthBar != healthBar) {
+            this.sprite = sprite;
+            this.healthBar = healthBar;
+            this.markDirty();
+        }
+        if (this.enemyId != id || this.tick != tick) {
+            // interpolate from the last position only if it belongs to the same enemy at the previous tick
+            final boolean continuous = this.enemyId == id && this.tick == tick - 1;
+            this.previousX = continuous ? this.currentX : pos.getX();
+            this.previousY = continuous ? this.currentY : pos.getY();
+            this.currentX = pos.getX();
+            this.currentY = pos.getY();
+            this.enemyId = id;
+            this.tick = tick;
+        }
+        this.moveTo(
+            interpolate(this.previousX, this.currentX, alpha),
+            interpolate(this.previousY, this.currentY, alpha)
+        );
+        this.resize(sprite.getWidth(null), sprite.getHeight(null));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void paint(final Graphics2D g2d) {
+        if (Objects.isNull(this.sprite)) {
+            return;
+        }
+        drawCentered(g2d, this.sprite, this.centerX, this.centerY);
+        drawCentered(g2d, this.healthBar, this.centerX, this.centerY);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Rectangle computeBounds(final PixelTransform transform) {
+        this.centerX = this.getPixelX(transform);
+        this.centerY = this.getPixelY(transform);
+        final Rectangle bounds = centered(this.sprite, this.centerX, this.centerY);
+        bounds.add(centered(this.healthBar, this.centerX, this.centerY));
+        return bounds;
+    }
+
+    private static int interpolate(final int from, final int to, final double alpha) {
+        return from + (int) Math.round((to - from) * alpha);
+    }
+
+    private static Rectangle centered(final Image image, final int x, final int y) {
+        return Objects.isNull(image)
+            ? new Rectangle(x, y, 0, 0)
+            : new Rectangle(x - image.getWidth(null) / 2, y - image.getHeight(null) / 2,
+                image.getWidth(null), image.getHeight(null));
+    }
+
+    private static void drawCentered(final Graphics2D g2d, final Image image, final int x, final int y) {
+        g2d.drawImage(image, x - image.getWidth(null) / 2, y - image.getHeight(null) / 2, null);
+    }
+}
@@ -1,20 +1,25 @@
 package it.unibo.towerdefense.view.enemies;
 
-import java.util.stream.Stream;
+import java.util.List;
 
 import it.unibo.towerdefense.commons.dtos.enemies.EnemyInfo;
-import it.unibo.towerdefense.view.graphics.ImageDrawable;
+import it.unibo.towerdefense.view.graphics.Drawable;
 
 /**
  * Class responsible for managing the way enemies are shown.
  */
 public interface EnemyGraphics {
     /**
-     * Returns a stream of ImageDrawables which represent the enemy correspondint to
-     * the given DTO.
+     * Returns the Drawables which represent the enemies corresponding to the
+     * given DTOs, in the same order.
+     * The Drawable of an enemy is retained and updated in place as long as the
+     * enemy is requested at each call, together with the position of the enemy
+     * at the previous tick, so that its motion can be interpolated.
      *
-     * @param e the DTO with information about the enemy to render
-     * @return a stream of ImageDrawables for the enemy
+     * @param enemies the DTOs with information about the enemies to render
+     * @param tick the number of the tick the DTOs belong to
+     * @param alpha the fraction of the next tick elapsed, in [0, 1]
+     * @return a Drawable for each enemy, valid until the next call
      */
-    Stream<ImageDrawable> getDrawablesFor(EnemyInfo e);
+    List<? extends Drawable> getDrawablesFor(List<EnemyInfo> enemies, long tick, double alpha);
 }
@@ -4,6 +4,8 @@ import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -18,7 +20,8 @@ import it.unibo.towerdefense.commons.engine.Direction;
 import it.unibo.towerdefense.commons.exceptions.ConfigurationLoadingException;
 import it.unibo.towerdefense.commons.utils.file.FileUtils;
 import it.unibo.towerdefense.commons.utils.images.ImageLoader;
-import it.unibo.towerdefense.view.graphics.ImageDrawable;
+import it.unibo.towerdefense.view.graphics.SceneGraph;
+import it.unibo.towerdefense.view.graphics.SceneGraphImpl;
 
 /**
  * {@inheritDoc}.
@@ -49,6 +52,7 @@ class EnemyGraphicsImpl implements EnemyGraphics {
     private final Double[][] sizes; // [level][type]
     private final BufferedImage[] healthBars;
     private final BufferedImage[][][] enemiesSprites; // list of [level][type][direction]
+    private final SceneGraph<Integer, EnemyDrawable> scene = new SceneGraphImpl<>(EnemyDrawable::new);
 
     /**
      * Constructor for the class.
@@ -61,28 +65,13 @@ class EnemyGraphicsImpl implements EnemyGraphics {
     EnemyGraphicsImpl(final ImageLoader loader) {
         enemiesSprites = new BufferedImage[EnemyLevel.values().length][EnemyArchetype.values().length][Direction
                 .values().length];
-        sizes = new Double[EnemyLevel.values().length][EnemyArchetype.values().length];
-        try {
-            final JSONObject sizesConfigVals = new JSONObject(
-                    FileUtils.readResource(ROOT + SIZES_FILE));
-            Arrays.stream(EnemyLevel.values())
-                    .forEach(level -> Arrays.stream(EnemyArchetype.values())
-                            .forEach(type -> sizes[level.ordinal()][type.ordinal()] = sizesConfigVals
-                                    .getDouble(level.name()) * sizesConfigVals.getDouble(type.name())));
-        } catch (IOException e) {
-            throw new UncheckedIOException(new IOException(
-                    "Couldn't locate configuration file for enemy sizes with name: " + ROOT + SIZES_FILE, e));
-        } catch (JSONException e) {
-            throw new ConfigurationLoadingException("Configuration file for enemy sizes is ill-formatted.", e);
-        }
+        sizes = loadSizes();
 
         EnemyType.getEnemyTypes().parallelStream().forEach(et -> {
             Arrays.stream(Direction.values()).forEach(d -> {
                 try {
                     enemiesSprites[et.level().ordinal()][et.type().ordinal()][d.ordinal()] = loader.loadImage(
-                            // name for the sprite of an enemy is [archetype letter][direction
-                            // letter].[extension]
-                            ROOT + et.type().name() + d.name() + EXTENSION,
+                            spriteName(et, d),
                             sizes[et.level().ordinal()][et.type().ordinal()]);
                 } catch (IOException e) {
                     throw new UncheckedIOException(
@@ -95,7 +84,7 @@ class EnemyGraphicsImpl implements EnemyGraphics {
         healthBars = new BufferedImage[EnemyInfo.HP_SCALE / HP_INCREMENT + 1];
         IntStream.range(0, EnemyInfo.HP_SCALE + 1).filter(i -> i % HP_INCREMENT == 0).forEach(v -> {
             try {
-                healthBars[v / HP_INCREMENT] = loader.loadImage(ROOT + v + EXTENSION, HP_BAR_SCALE);
+                healthBars[v / HP_INCREMENT] = loader.loadImage(healthBarName(v), HP_BAR_SCALE);
             } catch (IOException e) {
                 throw new UncheckedIOException(
                         new IOException("Failed to initialize the image for health value " + v, e));
@@ -103,14 +92,73 @@ class EnemyGraphicsImpl implements EnemyGraphics {
         });
     }
 
+    /**
+     * Requests in background all the sprites used to represent the enemies.
+     *
+     * @param loader the ImageLoader to use
+     * @return the futures of the requested sprites
+     */
+    static List<CompletableFuture<BufferedImage>> preload(final ImageLoader loader) {
+        final Double[][] sizes = loadSizes();
+        return Stream.concat(
+                EnemyType.getEnemyTypes().stream()
+                        .flatMap(et -> Arrays.stream(Direction.values())
+                                .map(d -> loader.loadImageAsync(spriteName(et, d),
+                                        sizes[et.level().ordinal()][et.type().ordinal()]))),
+                IntStream.range(0, EnemyInfo.HP_SCALE + 1).filter(i -> i % HP_INCREMENT == 0)
+                        .mapToObj(v -> loader.loadImageAsync(healthBarName(v), HP_BAR_SCALE)))
+                .toList();
+    }
+
+    /**
+     * Reads the size of each enemy from the configuration file.
+     *
+     * @return the sizes as [level][type]
+     */
+    private static Double[][] loadSizes() {
+        final Double[][] sizes = new Double[EnemyLevel.values().length][EnemyArchetype.values().length];
+        try {
+            final JSONObject sizesConfigVals = new JSONObject(
+                    FileUtils.readResource(ROOT + SIZES_FILE));
+            Arrays.stream(EnemyLevel.values())
+                    .forEach(level -> Arrays.stream(EnemyArchetype.values())
+                            .forEach(type -> sizes[level.ordinal()][type.ordinal()] = sizesConfigVals
+                                    .getDouble(level.name()) * sizesConfigVals.getDouble(type.name())));
+        } catch (IOException e) {
+            throw new UncheckedIOException(new IOException(
+                    "Couldn't locate configuration file for enemy sizes with name: " + ROOT + SIZES_FILE, e));
+        } catch (JSONException e) {
+            throw new ConfigurationLoadingException("Configuration file for enemy sizes is ill-formatted.", e);
+        }
+        return sizes;
+    }
+
+    /**
+     * Name for the sprite of an enemy is [archetype letter][direction letter].[extension].
+     */
+    private static String spriteName(final EnemyType et, final Direction d) {
+        return ROOT + et.type().name() + d.name() + EXTENSION;
+    }
+
+    private static String healthBarName(final int hp) {
+        return ROOT + hp + EXTENSION;
+    }
+
     /**
      * {@inheritDoc}.
      */
     @Override
-    public Stream<ImageDrawable> getDrawablesFor(final EnemyInfo e) {
-        return Stream.of(
-                new ImageDrawable(enemiesSprites[e.type().level().ordinal()][e.type().type().ordinal()][e.pos().getDir()
-                        .ordinal()], e.pos()),
-                new ImageDrawable(healthBars[e.hp() / HP_INCREMENT], e.pos()));
+    public List<EnemyDrawable> getDrawablesFor(final List<EnemyInfo> enemies, final long tick, final double alpha) {
+        scene.beginFrame();
+        for (final EnemyInfo e : enemies) {
+            scene.node(e.id()).update(
+                    enemiesSprites[e.type().level().ordinal()][e.type().type().ordinal()][e.pos().getDir().ordinal()],
+                    healthBars[e.hp() / HP_INCREMENT],
+                    e.id(),
+                    e.pos(),
+                    tick,
+                    alpha);
+        }
+        return scene.endFrame();
     }
 }
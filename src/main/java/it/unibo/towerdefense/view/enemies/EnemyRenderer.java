@@ -11,7 +11,12 @@ public interface EnemyRenderer {
     /**
      * Renders the enemies given in the stream argument.
      *
+     * Each enemy is drawn between its positions at the previous and at the
+     * current tick, according to the fraction of the next tick elapsed.
+     *
      * @param enemies the enemies to render
+     * @param tick the number of the tick the enemies belong to
+     * @param alpha the fraction of the next tick elapsed, in [0, 1]
      */
-    void render(Stream<EnemyInfo> enemies);
+    void render(Stream<EnemyInfo> enemies, long tick, double alpha);
 }
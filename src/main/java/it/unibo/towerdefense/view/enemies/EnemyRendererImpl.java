@@ -1,9 +1,13 @@
 package it.unibo.towerdefense.view.enemies;
 
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.towerdefense.commons.dtos.enemies.EnemyInfo;
+import it.unibo.towerdefense.commons.utils.images.ImageLoader;
 import it.unibo.towerdefense.view.graphics.Renderer;
 
 /**
@@ -30,15 +34,23 @@ public class EnemyRendererImpl implements EnemyRenderer {
         this.graphics = new EnemyGraphicsImpl(renderer.getImageLoader());
     }
 
+    /**
+     * Requests in background all the images needed to render the enemies.
+     *
+     * @param loader the ImageLoader to use
+     * @return the futures of the requested images
+     */
+    public static List<CompletableFuture<BufferedImage>> preload(final ImageLoader loader) {
+        return EnemyGraphicsImpl.preload(loader);
+    }
+
     /**
      * {@inheritDoc}.
      */
     @Override
-    public void render(final Stream<EnemyInfo> enemies) {
-        renderer.submitAllToCanvas(enemies
-                .parallel()
+    public void render(final Stream<EnemyInfo> enemies, final long tick, final double alpha) {
+        renderer.submitAllToCanvas(graphics.getDrawablesFor(enemies
                 .sorted((e1, e2) -> Long.compare(e1.pos().getDistanceWalked(), e2.pos().getDistanceWalked()))
-                .flatMap(e -> graphics.getDrawablesFor(e))
-                .toList());
+                .toList(), tick, alpha));
     }
 }
@@ -18,6 +18,7 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.towerdefense.commons.Constants;
 import it.unibo.towerdefense.commons.engine.Size;
 import it.unibo.towerdefense.controller.gamelauncher.GameLauncherController;
+import it.unibo.towerdefense.view.graphics.Interpolation;
 
 /**
  * Implementation of the GameLauncherView interface.
@@ -27,6 +28,9 @@ public class GameLauncherViewImpl implements GameLauncherView {
     private static final String START_BUTTON = "Start";
     private static final String PLAYER_NAME_LABEL = "Player Name: ";
     private static final String RESOLUTION_LABEL = "Select resolution: ";
+    private static final String RENDER_SCALE_LABEL = "Render scale: ";
+    private static final String INTERPOLATION_LABEL = "Upscaling: ";
+    private static final int PERCENT = 100;
     private static final String TITLE = Constants.GAME_NAME + " - Launcher";
     private static final int WIDTH_PROPORTION = 5;
     private static final int HEIGHT_PROPORTION = 3;
@@ -58,6 +62,24 @@ public class GameLauncherViewImpl implements GameLauncherView {
         final JLabel resolutionLabel = new JLabel(RESOLUTION_LABEL);
         resolutionPanel.add(resolutionLabel);
         resolutionPanel.add(resolutionsBox);
+        // create the render scale panel
+        final JComboBox<String> renderScalesBox = new JComboBox<>(
+            this.controller.getRenderScales().stream()
+                .map(scale -> Math.round(scale * PERCENT) + "%")
+                .toArray(String[]::new)
+        );
+        final JComboBox<String> interpolationsBox = new JComboBox<>(
+            this.controller.getInterpolations().stream()
+                .map(Object::toString)
+                .toArray(String[]::new)
+        );
+        interpolationsBox.setSelectedIndex(Interpolation.BILINEAR.ordinal());
+        final JPanel renderScalePanel = new JPanel();
+        renderScalePanel.setLayout(new BoxLayout(renderScalePanel, BoxLayout.X_AXIS));
+        renderScalePanel.add(new JLabel(RENDER_SCALE_LABEL));
+        renderScalePanel.add(renderScalesBox);
+        renderScalePanel.add(new JLabel(INTERPOLATION_LABEL));
+        renderScalePanel.add(interpolationsBox);
         // create name panel
         final JPanel namePanel = new JPanel();
         namePanel.setLayout(new BoxLayout(namePanel, BoxLayout.X_AXIS));
@@ -70,11 +92,17 @@ public class GameLauncherViewImpl implements GameLauncherView {
         final JButton startButton = new JButton(START_BUTTON);
         startButton.addActionListener(e -> {
             // start the game
-            this.start(nameField.getText(), resolutionsBox.getSelectedIndex());
+            this.start(
+                nameField.getText(),
+                resolutionsBox.getSelectedIndex(),
+                renderScalesBox.getSelectedIndex(),
+                interpolationsBox.getSelectedIndex()
+            );
         });
         // add the components to the container
         container.add(namePanel);
         container.add(resolutionPanel);
+        container.add(renderScalePanel);
         container.add(startButton);
         // add the container to the frame
         this.frame.add(container);
@@ -102,11 +130,18 @@ public class GameLauncherViewImpl implements GameLauncherView {
         this.frame.setVisible(true);
     }
 
-    private void start(final String name, final int resolutionIndex) {
+    private void start(
+        final String name,
+        final int resolutionIndex,
+        final int renderScaleIndex,
+        final int interpolationIndex
+    ) {
         try {
-            // set the player name and resolution
+            // set the player name, resolution and render settings
             this.controller.setPlayerName(name);
             this.controller.selectResolution(resolutionIndex);
+            this.controller.selectRenderScale(renderScaleIndex);
+            this.controller.selectInterpolation(interpolationIndex);
         } catch (final IllegalArgumentException e) {
             // show an error message
             JOptionPane.showMessageDialog(frame, e.getMessage(), "Error!", JOptionPane.ERROR_MESSAGE);
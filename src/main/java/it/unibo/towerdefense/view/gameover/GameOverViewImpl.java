@@ -18,6 +18,7 @@ public class GameOverViewImpl implements GameOverView {
     private static final int FONT_SIZE = 20;
     private static final String CLOSE = "Close";
     private static final String SCORE = "Score: ";
+    private static final String RANK = "You ranked #";
 
     private final ScoreDTO score;
 
@@ -44,6 +45,10 @@ public class GameOverViewImpl implements GameOverView {
         scoreLabel.setAlignmentX(JLabel.CENTER_ALIGNMENT);
         scoreLabel.setFont(new Font(scoreLabel.getFont().getName(), Font.PLAIN, FONT_SIZE));
         innerPnl.add(scoreLabel);
+        // rank label
+        final JLabel rankLabel = new JLabel(RANK + score.getRank());
+        rankLabel.setAlignmentX(JLabel.CENTER_ALIGNMENT);
+        innerPnl.add(rankLabel);
         // add close button
         final JButton closeButton = new JButton(CLOSE);
         closeButton.setAlignmentX(JButton.CENTER_ALIGNMENT);
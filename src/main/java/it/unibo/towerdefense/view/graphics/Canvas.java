@@ -61,6 +61,22 @@ public interface Canvas {
      */
     Size getCanvasSize();
 
+    /**
+     * Set the scale at which the game world is rendered, before being upscaled
+     * to the size of the canvas.
+     * @param scale the ratio between the rendered size and the canvas size, in (0, 1]
+     * @param interpolation the interpolation used when upscaling
+     * @throws IllegalArgumentException if the scale is out of range
+     */
+    void setRenderScale(double scale, Interpolation interpolation);
+
+    /**
+     * Get the size at which the game world is rendered.
+     * @return the size of the rendered image, equal to the size
+     *      of the canvas at full render scale
+     */
+    Size getRenderSize();
+
     /**
      * Set the bounds of the canvas.
      * @param x the x coordinate
@@ -5,9 +5,6 @@ import java.util.Objects;
 import java.util.ArrayList;
 import java.util.Collections;
 
-import javax.swing.JPanel;
-
-import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -16,34 +13,50 @@ import it.unibo.towerdefense.commons.engine.Position;
 import it.unibo.towerdefense.commons.engine.Size;
 import it.unibo.towerdefense.commons.patterns.Observer;
 
+import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.awt.RenderingHints;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 
 /**
  * Main canvas of the game.
+ *
+ * The canvas is an heavyweight component rendered actively: each call to
+ * {@link #render()} draws the queue on the back buffer of a BufferStrategy and
+ * shows it immediately from the calling thread, instead of asking the EDT to
+ * repaint later.
+ *
+ * Drawables are collected in a back frame by a single producer thread, which
+ * also updates retained drawables in place between frames. When rendering, the
+ * frame is handed over to the composer under the same lock taken by painters,
+ * and drawables are only read while composing on the producer thread: the EDT
+ * only ever paints the composed image, so it never sees a drawable being updated.
  */
 @SuppressFBWarnings(
     value = {"SE_TRANSIENT_FIELD_NOT_RESTORED", "SE_BAD_FIELD"},
     justification = "Transient fields are not intended to be restored during deserialization,"
         +  "non-serializable fields are marked transient"
 )
-public class CanvasImpl extends JPanel implements Canvas {
+public class CanvasImpl extends java.awt.Canvas implements Canvas {
 
     private static final long serialVersionUID = 1L;
     private static final int FIRST_INDEX = 0;
-    private static final int START_Y = 0;
-    private static final int START_X = 0;
+    private static final int BUFFERS = 3;
 
     private final transient Logger logger =
         LoggerFactory.getLogger(CanvasImpl.class);
-    private final transient List<Drawable> queue = new ArrayList<>();
+    private transient List<Drawable> back = new ArrayList<>();
+    private final transient FrameComposer composer = new FrameComposer(Color.BLACK);
     private final transient List<Observer<Position>> observers = new ArrayList<>();
 
     private Size mapSize;
-    private Pair<Double, Double> scale = Pair.of(1.0, 1.0);
+    private transient PixelTransform transform = PixelTransform.IDENTITY;
+    private double renderScale = 1.0;
+    private Interpolation interpolation = Interpolation.BILINEAR;
+    private Size renderSize = Size.of(0, 0);
 
     /**
      * Default constructor.
@@ -57,87 +70,80 @@ public class CanvasImpl extends JPanel implements Canvas {
                 CanvasImpl.this.onClick(e);
             }
         });
-        // set double buffering
-        this.setDoubleBuffered(true);
+        this.setBackground(Color.BLACK);
     }
 
     /**
-     * {@inheritDoc}
+     * Paints the last composed frame when the system asks for it,
+     * e.g. when the canvas is exposed after being covered by a modal.
+     * @param g the graphics to paint on
      */
     @Override
-    public void paintComponent(final Graphics g) {
-        super.paintComponent(g);
-        // create a copy of graphics and set rendering hints
+    public synchronized void paint(final Graphics g) {
         final Graphics2D g2d = (Graphics2D) g.create();
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
-        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_OFF);
-        g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_SPEED);
-        // get synchronized copy of the queue
-        final var syncQueue = Collections.synchronizedList(new ArrayList<>(this.queue));
-        synchronized (syncQueue) {
-            if (!syncQueue.isEmpty()) {
-                // clear the canvas
-                g2d.clearRect(START_X, START_Y, this.getWidth(), this.getHeight());
-                // draw each element
-                for (final Drawable drawable: syncQueue) {
-                    drawable.setScale(this.scale);
-                    drawable.paint(g2d);
-                }
-            }
-        }
+        this.composer.drawTo(g2d, this.getWidth(), this.getHeight(), this.interpolation);
         g2d.dispose();
     }
 
+    /**
+     * Paints without clearing the background first, since every frame
+     * covers the whole canvas.
+     * @param g the graphics to paint on
+     */
+    @Override
+    public void update(final Graphics g) {
+        this.paint(g);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized void clearCanvasQueue() {
-        synchronized (this.queue) {
-            this.queue.clear();
-        }
+    public void clearCanvasQueue() {
+        this.back.clear();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized void render() {
-        if (!this.queue.isEmpty()) {
-            this.repaint();
-        }
+    public void render() {
+        // start a new back frame, the handed over list is kept by the composer and never modified again
+        final List<Drawable> frame = Collections.unmodifiableList(this.back);
+        this.back = new ArrayList<>(frame.size());
+        this.present(frame);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized void submit(final Drawable drawable) {
-        this.queue.add(drawable);
+    public void submit(final Drawable drawable) {
+        this.back.add(drawable);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized void submitAll(final List<? extends Drawable> drawables) {
-        this.queue.addAll(Collections.unmodifiableCollection(drawables));
+    public void submitAll(final List<? extends Drawable> drawables) {
+        this.back.addAll(drawables);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized void submitBackground(final Drawable drawable) {
-       this.queue.add(FIRST_INDEX, drawable);
+    public void submitBackground(final Drawable drawable) {
+       this.back.add(FIRST_INDEX, drawable);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized void submitBackgroundAll(final List<? extends Drawable> drawables) {
-       this.queue.addAll(FIRST_INDEX, drawables);
+    public void submitBackgroundAll(final List<? extends Drawable> drawables) {
+       this.back.addAll(FIRST_INDEX, drawables);
     }
 
     /**
@@ -154,10 +160,7 @@ public class CanvasImpl extends JPanel implements Canvas {
     @Override
     public void setMapSize(final Size mapSize) {
         this.mapSize = mapSize;
-        this.scale = Pair.of(
-            this.getWidth() / (double) mapSize.getWidth(),
-            this.getHeight() / (double) mapSize.getHeight()
-        );
+        this.updateTransform();
     }
 
     /**
@@ -174,6 +177,80 @@ public class CanvasImpl extends JPanel implements Canvas {
     @Override
     public void setBounds(final int x, final int y, final int width, final int height) {
         super.setBounds(x, y, width, height);
+        this.updateTransform();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void setRenderScale(final double scale, final Interpolation interpolation) {
+        if (scale <= 0 || scale > 1) {
+            throw new IllegalArgumentException("Render scale must be in (0, 1]");
+        }
+        this.renderScale = scale;
+        this.interpolation = interpolation;
+        this.updateTransform();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized Size getRenderSize() {
+        return this.renderSize;
+    }
+
+    /**
+     * Computes the size of the rendered image and the transform from logical
+     * coordinates to its pixels, once for each change of the size of the canvas,
+     * of the map or of the render scale.
+     */
+    private synchronized void updateTransform() {
+        this.renderSize = Size.of(
+            Math.max(1, (int) Math.round(this.getWidth() * this.renderScale)),
+            Math.max(1, (int) Math.round(this.getHeight() * this.renderScale))
+        );
+        if (Objects.nonNull(this.mapSize)) {
+            this.transform = PixelTransform.of(this.renderSize, this.mapSize);
+        }
+    }
+
+    /**
+     * Composes the frame and shows it, holding the lock taken by painters,
+     * so the composed image is never painted while it is being composed.
+     */
+    private synchronized void present(final List<Drawable> frame) {
+        // the buffer strategy can only be created once the canvas is on screen
+        if (frame.isEmpty() || !this.isDisplayable() || this.getWidth() <= 0 || this.getHeight() <= 0) {
+            return;
+        }
+        if (!this.composer.compose(frame, this.renderSize, this.transform)) {
+            return;
+        }
+        final BufferStrategy strategy = this.getStrategy();
+        do {
+            do {
+                final Graphics2D g2d = (Graphics2D) strategy.getDrawGraphics();
+                try {
+                    this.composer.drawTo(g2d, this.getWidth(), this.getHeight(), this.interpolation);
+                } finally {
+                    g2d.dispose();
+                }
+                // draw again if the buffer was restored while drawing
+            } while (strategy.contentsRestored());
+            strategy.show();
+            // draw again if the buffer was lost before being shown
+        } while (strategy.contentsLost());
+        // flush the pipeline, so that the frame is on screen when render returns
+        Toolkit.getDefaultToolkit().sync();
+    }
+
+    private BufferStrategy getStrategy() {
+        if (Objects.isNull(this.getBufferStrategy())) {
+            this.createBufferStrategy(BUFFERS);
+        }
+        return this.getBufferStrategy();
     }
 
     private void onClick(final MouseEvent e) {
@@ -0,0 +1,88 @@
+package it.unibo.towerdefense.view.graphics;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Set of areas of the canvas which must be redrawn.
+ * Overlapping areas are merged together, and when there are too many of them
+ * they are collapsed in the single rectangle containing all of them, so that
+ * the set always stays small.
+ */
+final class DirtyRegion {
+
+    private static final int MAX_RECTANGLES = 16;
+
+    private final List<Rectangle> rectangles = new ArrayList<>();
+    private final Rectangle canvas = new Rectangle();
+
+    /**
+     * Empties the region and sets the area of the canvas,
+     * rectangles outside of it are ignored.
+     * @param width the width of the canvas
+     * @param height the height of the canvas
+     */
+    void reset(final int width, final int height) {
+        this.rectangles.clear();
+        this.canvas.setBounds(0, 0, width, height);
+    }
+
+    /**
+     * Adds the whole canvas to the region.
+     */
+    void addAll() {
+        this.rectangles.clear();
+        this.rectangles.add(new Rectangle(this.canvas));
+    }
+
+    /**
+     * Adds an area to the region.
+     * @param area the area to add, it is not modified
+     */
+    void add(final Rectangle area) {
+        final Rectangle merged = area.intersection(this.canvas);
+        if (merged.isEmpty()) {
+            return;
+        }
+        // merge with every rectangle it overlaps, until no overlap is left
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            final Iterator<Rectangle> it = this.rectangles.iterator();
+            while (it.hasNext()) {
+                final Rectangle r = it.next();
+                if (r.intersects(merged)) {
+                    merged.add(r);
+                    it.remove();
+                    changed = true;
+                }
+            }
+        }
+        this.rectangles.add(merged);
+        if (this.rectangles.size() > MAX_RECTANGLES) {
+            final Rectangle union = new Rectangle(this.rectangles.get(0));
+            this.rectangles.forEach(union::add);
+            this.rectangles.clear();
+            this.rectangles.add(union);
+        }
+    }
+
+    /**
+     * Tells whether there is nothing to redraw.
+     * @return true if the region is empty
+     */
+    boolean isEmpty() {
+        return this.rectangles.isEmpty();
+    }
+
+    /**
+     * Returns the disjoint rectangles of the region.
+     * @return the rectangles to redraw
+     */
+    List<Rectangle> getRectangles() {
+        return Collections.unmodifiableList(this.rectangles);
+    }
+}
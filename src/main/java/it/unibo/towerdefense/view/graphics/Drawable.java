@@ -1,22 +1,31 @@
 package it.unibo.towerdefense.view.graphics;
 
 import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.util.Objects;
 
-import org.apache.commons.lang3.tuple.Pair;
-
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.towerdefense.commons.engine.LogicalPosition;
-import it.unibo.towerdefense.commons.engine.Position;
 import it.unibo.towerdefense.commons.engine.Size;
 
 /**
  * Abstract class that represents a drawable object.
+ *
+ * Drawables are positioned in logical coordinates, converted to pixels
+ * only when they change or the transform of the canvas changes.
+ * A drawable is dirty when it changed since it was last painted, in which
+ * case both the area it covered and the area it covers now must be redrawn.
+ * Drawables are updated and composed by the rendering thread only, painters
+ * on other threads only see the image they were composed on.
  */
 public abstract class Drawable {
 
     private final LogicalPosition position;
-    private final Size size;
-    private Pair<Double, Double> scale = Pair.of(1.0, 1.0);
+    private Size size;
+    private boolean dirty = true;
+    private long frame;
+    private PixelTransform transform;
+    private Rectangle bounds;
+    private Rectangle paintedBounds;
 
     /**
      * Constructor from LogicalPosition and Size.
@@ -37,91 +46,158 @@ public abstract class Drawable {
     }
 
     /**
-     * Returns the position of the drawable.
+     * Returns the logical position of the drawable.
      * @return the position of the object.
      */
-    @SuppressFBWarnings(
-        value = "ICAST",
-        justification = "Casting the result of integral division to double is intentional for scaling."
-    )
-    public Position getPosition() {
-        return Position.of(
-            (int) (
-               this.position.getX()
-                    * this.scale.getLeft()
-                    / this.position.getScalingFactor()
-                    - this.size.getWidth() / 2
-            ),
-            (int) (
-                this.position.getY()
-                    * this.scale.getRight()
-                    / this.position.getScalingFactor()
-                    - this.size.getHeight() / 2
-            )
-        );
+    public LogicalPosition getPosition() {
+        return this.position.copy();
     }
 
     /**
-     * Returns the position of center the drawable.
-     * @return the size of the object.
+     * Returns the size of the drawable.
+     * @return the size of the object in pixels.
      */
-    public Position getCenterPosition() {
-        return Position.of(
-            (int) (
-               this.position.getX()
-                    * this.scale.getLeft()
-                    / this.position.getScalingFactor()
-            ),
-            (int) (
-                this.position.getY()
-                    * this.scale.getRight()
-                    / this.position.getScalingFactor()
-            )
-        );
+    public Size getSize() {
+        return this.size.copy();
     }
 
     /**
-     * Returns the scaled value of the given value.
-     * @param value the value to scale
-     * @return the scaled value
+     * Moves the drawable to the given position, updating it in place.
+     * @param pos the new position
      */
-    public double scale(final int value) {
-        return value * this.scale.getLeft() / this.position.getScalingFactor();
+    protected void moveTo(final LogicalPosition pos) {
+        this.moveTo(pos.getX(), pos.getY());
     }
 
     /**
-     * Returns the scale factor.
-     * @return the scale factor
+     * Moves the drawable to the given logical coordinates, updating it in place.
+     * @param x the new logical x coordinate
+     * @param y the new logical y coordinate
      */
-    public Pair<Double, Double> getScale() {
-        return this.scale;
+    protected void moveTo(final int x, final int y) {
+        if (this.position.getX() != x || this.position.getY() != y) {
+            this.position.set(x, y);
+            this.markDirty();
+        }
     }
 
     /**
-     * Returns the size of the drawable.
-     * @return the size of the object.
+     * Changes the size of the drawable, a new size is created only
+     * if it differs from the current one.
+     * @param width the new width
+     * @param height the new height
      */
-    public Size getSize() {
-        return this.size.copy();
+    protected void resize(final int width, final int height) {
+        if (this.size.getWidth() != width || this.size.getHeight() != height) {
+            this.size = Size.of(width, height);
+            this.markDirty();
+        }
     }
 
     /**
-     * Returns the scaled size of the drawable.
-     * @return the scaled size of the object.
+     * Computes the pixel coordinates of the drawable with the given transform.
+     * It is called only when the drawable or the transform change, so
+     * subclasses can compute here the coordinates used when painting.
+     * By default the drawable is centered on its position.
+     * @param transform the transform from logical coordinates to pixels
+     * @return the area of the canvas covered by the drawable
      */
-    public Size getScaledSize() {
-        return Size.of(
-            (int) (this.size.getWidth() * this.scale.getLeft()),
-            (int) (this.size.getHeight() * this.scale.getRight())
+    protected Rectangle computeBounds(final PixelTransform transform) {
+        return new Rectangle(
+            this.getPixelX(transform) - this.size.getWidth() / 2,
+            this.getPixelY(transform) - this.size.getHeight() / 2,
+            this.size.getWidth(),
+            this.size.getHeight()
         );
     }
 
     /**
-     * Sets the scale factor which the position will be multiplied by.
-     * @param scale the scale factor
+     * Returns the x coordinate in pixels of the position of the drawable.
+     * @param transform the transform from logical coordinates to pixels
+     * @return the x coordinate in pixels
+     */
+    protected final int getPixelX(final PixelTransform transform) {
+        return transform.toPixelX(this.position.getX());
+    }
+
+    /**
+     * Returns the y coordinate in pixels of the position of the drawable.
+     * @param transform the transform from logical coordinates to pixels
+     * @return the y coordinate in pixels
+     */
+    protected final int getPixelY(final PixelTransform transform) {
+        return transform.toPixelY(this.position.getY());
+    }
+
+    /**
+     * Returns the area covered by the drawable, as computed for the current frame.
+     * @return the bounds of the drawable in pixels
+     */
+    protected final Rectangle getPixelBounds() {
+        return this.bounds;
+    }
+
+    /**
+     * Marks the drawable as changed since it was last painted.
+     */
+    protected void markDirty() {
+        this.dirty = true;
+    }
+
+    /**
+     * Tells whether the drawable changed since it was last painted.
+     * @return true if the drawable must be painted again
+     */
+    boolean isDirty() {
+        return this.dirty;
+    }
+
+    /**
+     * Marks the drawable as part of the given frame and computes its bounds
+     * if it changed or the transform is different from the last one.
+     * @param frame the number of the frame
+     * @param transform the transform of the canvas
+     * @return the bounds of the drawable
+     */
+    Rectangle visit(final long frame, final PixelTransform transform) {
+        this.frame = frame;
+        if (this.dirty || Objects.isNull(this.bounds) || !transform.equals(this.transform)) {
+            this.transform = transform;
+            this.bounds = this.computeBounds(transform);
+        }
+        return this.bounds;
+    }
+
+    /**
+     * Returns the number of the last frame the drawable was part of.
+     * @return the number of the frame
+     */
+    long getFrame() {
+        return this.frame;
+    }
+
+    /**
+     * Returns the area covered the last time the drawable was painted.
+     * @return the painted bounds, or null if the drawable is not on the canvas
+     */
+    Rectangle getPaintedBounds() {
+        return this.paintedBounds;
+    }
+
+    /**
+     * Records the drawable is on the canvas with its current bounds.
+     */
+    void painted() {
+        this.paintedBounds = this.bounds;
+        this.dirty = false;
+    }
+
+    /**
+     * Records the drawable is no longer on the canvas.
      */
-    public void setScale(final Pair<Double, Double> scale) {
-        this.scale = scale;
+    void removed() {
+        this.paintedBounds = null;
+        this.dirty = true;
     }
 
     /**
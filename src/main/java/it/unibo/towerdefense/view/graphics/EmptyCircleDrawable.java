@@ -1,20 +1,23 @@
 package it.unibo.towerdefense.view.graphics;
 
-import java.awt.geom.Ellipse2D;
 import java.awt.Graphics2D;
 import java.awt.Color;
+import java.awt.Rectangle;
 
 import it.unibo.towerdefense.commons.engine.LogicalPosition;
-import it.unibo.towerdefense.commons.engine.Position;
 import it.unibo.towerdefense.commons.engine.Size;
 
 /**
  * Class that represents a circle drawable.
+ * It can be reused for a different circle through update.
  */
 public class EmptyCircleDrawable extends Drawable {
 
-    private final Color color;
-    private final int radius;
+    private Color color;
+    private int radius;
+    private int centerX;
+    private int centerY;
+    private int pixelRadius;
 
     /**
      * Constructor from Size, LogicalPosition and Color.
@@ -28,21 +31,55 @@ public class EmptyCircleDrawable extends Drawable {
         this.radius = radius;
     }
 
+    /**
+     * Creates an empty circle, with radius 0 in the origin until updated.
+     * @param color the color of the circle
+     */
+    public EmptyCircleDrawable(final Color color) {
+        this(new LogicalPosition(0, 0), 0, color);
+    }
+
+    /**
+     * Updates in place the center, radius and color of the circle.
+     * @param pos center position of the shape
+     * @param radius radius of the circle
+     * @param color the color of the circle
+     */
+    public void update(final LogicalPosition pos, final int radius, final Color color) {
+        this.moveTo(pos);
+        this.resize(radius * 2, radius * 2);
+        if (this.radius != radius || !this.color.equals(color)) {
+            this.radius = radius;
+            this.color = color;
+            this.markDirty();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Rectangle computeBounds(final PixelTransform transform) {
+        this.centerX = this.getPixelX(transform);
+        this.centerY = this.getPixelY(transform);
+        this.pixelRadius = transform.toPixelLength(this.radius);
+        // include the width of the stroke
+        final int outer = this.pixelRadius + 1;
+        return new Rectangle(this.centerX - outer, this.centerY - outer, 2 * outer, 2 * outer);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     protected void paint(final Graphics2D g2d) {
-        final Position pos = this.getCenterPosition();
-        final var scaledRadius = this.scale(this.radius);
         // draw circle
         g2d.setColor(this.color);
-        final var circle = new Ellipse2D.Double(
-            pos.getX() - scaledRadius,
-            pos.getY() - scaledRadius,
-            2.0 * scaledRadius,
-            2.0 * scaledRadius
+        g2d.drawOval(
+            this.centerX - this.pixelRadius,
+            this.centerY - this.pixelRadius,
+            2 * this.pixelRadius,
+            2 * this.pixelRadius
         );
-        g2d.draw(circle);
     }
 }
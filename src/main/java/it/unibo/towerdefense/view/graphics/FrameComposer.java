@@ -0,0 +1,133 @@
+package it.unibo.towerdefense.view.graphics;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.Objects;
+
+import it.unibo.towerdefense.commons.engine.Size;
+import it.unibo.towerdefense.commons.utils.images.ImageLoader;
+
+/**
+ * Composes frames of drawables on an offscreen image kept between frames.
+ * Only the areas covered by drawables which changed, appeared or went away
+ * are cleared and redrawn.
+ */
+final class FrameComposer {
+
+    private final DirtyRegion dirtyRegion = new DirtyRegion();
+    private final Color background;
+    private List<Drawable> shown = List.of();
+    private BufferedImage image;
+    private PixelTransform composedTransform;
+    private long frameNumber;
+
+    /**
+     * Constructor with the color of the empty areas.
+     * @param background the color used to clear the image
+     */
+    FrameComposer(final Color background) {
+        this.background = background;
+    }
+
+    /**
+     * Composes a frame on the image.
+     * @param frame the drawables of the frame, in drawing order
+     * @param size the size of the image in pixels
+     * @param transform the transform from logical coordinates to pixels of the image
+     * @return true if the image changed
+     */
+    boolean compose(final List<Drawable> frame, final Size size, final PixelTransform transform) {
+        this.collectDirtyRegion(frame, size, transform);
+        this.shown = frame;
+        if (this.dirtyRegion.isEmpty()) {
+            return false;
+        }
+        final Graphics2D g2d = this.image.createGraphics();
+        // set rendering hints
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_OFF);
+        g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_SPEED);
+        g2d.setBackground(this.background);
+        for (final Rectangle area: this.dirtyRegion.getRectangles()) {
+            g2d.setClip(area);
+            g2d.clearRect(area.x, area.y, area.width, area.height);
+            // draw each element touching the area, in order
+            for (final Drawable drawable: frame) {
+                if (drawable.getPixelBounds().intersects(area)) {
+                    drawable.paint(g2d);
+                }
+            }
+        }
+        g2d.dispose();
+        frame.forEach(Drawable::painted);
+        return true;
+    }
+
+    /**
+     * Draws the last composed image, scaled to the given size.
+     * @param g2d the graphics to draw on
+     * @param width the width of the destination
+     * @param height the height of the destination
+     * @param interpolation the interpolation used if the image is scaled
+     */
+    void drawTo(final Graphics2D g2d, final int width, final int height, final Interpolation interpolation) {
+        if (Objects.isNull(this.image)) {
+            return;
+        }
+        if (this.image.getWidth() == width && this.image.getHeight() == height) {
+            g2d.drawImage(this.image, 0, 0, null);
+        } else {
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation.getHint());
+            g2d.drawImage(this.image, 0, 0, width, height, null);
+        }
+    }
+
+    /**
+     * Returns the image of the last composed frame.
+     * The image is reused by following frames.
+     * @return the image, or null if no frame was composed yet
+     */
+    BufferedImage getImage() {
+        return this.image;
+    }
+
+    /**
+     * Collects the areas to redraw: the old and new bounds of the drawables
+     * which changed, and the old bounds of the drawables which went away.
+     */
+    private void collectDirtyRegion(final List<Drawable> frame, final Size size, final PixelTransform transform) {
+        this.frameNumber++;
+        this.dirtyRegion.reset(size.getWidth(), size.getHeight());
+        // redraw everything if the size of the image or the transform changed
+        if (Objects.isNull(this.image)
+            || this.image.getWidth() != size.getWidth()
+            || this.image.getHeight() != size.getHeight()) {
+            this.image = ImageLoader.createCompatibleImage(size.getWidth(), size.getHeight(), Transparency.OPAQUE);
+            this.dirtyRegion.addAll();
+        }
+        if (!transform.equals(this.composedTransform)) {
+            this.composedTransform = transform;
+            this.dirtyRegion.addAll();
+        }
+        for (final Drawable drawable: frame) {
+            final Rectangle bounds = drawable.visit(this.frameNumber, transform);
+            if (drawable.isDirty()) {
+                if (Objects.nonNull(drawable.getPaintedBounds())) {
+                    this.dirtyRegion.add(drawable.getPaintedBounds());
+                }
+                this.dirtyRegion.add(bounds);
+            }
+        }
+        for (final Drawable drawable: this.shown) {
+            if (drawable.getFrame() != this.frameNumber && Objects.nonNull(drawable.getPaintedBounds())) {
+                this.dirtyRegion.add(drawable.getPaintedBounds());
+                drawable.removed();
+            }
+        }
+    }
+}
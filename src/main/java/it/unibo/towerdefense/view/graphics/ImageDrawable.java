@@ -2,14 +2,16 @@ package it.unibo.towerdefense.view.graphics;
 
 import java.awt.Graphics2D;
 import java.awt.Image;
+import java.awt.Rectangle;
+import java.util.Objects;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.towerdefense.commons.engine.LogicalPosition;
-import it.unibo.towerdefense.commons.engine.Position;
 import it.unibo.towerdefense.commons.engine.Size;
 
 /**
  * Class that represents a drawable image.
+ * It can be reused for a different image or position through update.
  */
 public class ImageDrawable extends Drawable {
 
@@ -17,7 +19,7 @@ public class ImageDrawable extends Drawable {
         value = "EI2",
         justification = "Image is intentionally mutable and safe to store."
     )
-    private final Image image;
+    private Image image;
 
     /**
      * Constructor from Image and LogicalPosition.
@@ -29,16 +31,44 @@ public class ImageDrawable extends Drawable {
         this.image = image;
     }
 
+    /**
+     * Creates an empty drawable, which draws nothing until updated.
+     */
+    public ImageDrawable() {
+        super();
+    }
+
+    /**
+     * Updates in place the image and the position of the drawable.
+     * @param image the image to draw
+     * @param pos position where to draw
+     */
+    @SuppressFBWarnings(
+        value = "EI2",
+        justification = "Image is intentionally mutable and safe to store."
+    )
+    public void update(final Image image, final LogicalPosition pos) {
+        if (this.image != image) {
+            this.image = image;
+            this.markDirty();
+        }
+        this.moveTo(pos);
+        this.resize(image.getWidth(null), image.getHeight(null));
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     protected void paint(final Graphics2D g2d) {
-        final Position pos = this.getPosition();
+        if (Objects.isNull(this.image)) {
+            return;
+        }
+        final Rectangle bounds = this.getPixelBounds();
         // draw image
         g2d.drawImage(
             this.image,
-            pos.getX(), pos.getY(),
+            bounds.x, bounds.y,
             null
         );
     }
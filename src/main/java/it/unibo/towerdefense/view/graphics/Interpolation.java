@@ -0,0 +1,36 @@
+package it.unibo.towerdefense.view.graphics;
+
+import java.awt.RenderingHints;
+
+/**
+ * Interpolation used when the game world, rendered at reduced scale,
+ * is upscaled to the canvas.
+ */
+public enum Interpolation {
+    /**
+     * Fastest, keeps sprites sharp but blocky.
+     */
+    NEAREST_NEIGHBOR(RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR),
+    /**
+     * Smooth, good trade-off between quality and speed.
+     */
+    BILINEAR(RenderingHints.VALUE_INTERPOLATION_BILINEAR),
+    /**
+     * Smoothest and slowest.
+     */
+    BICUBIC(RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+
+    private final Object hint;
+
+    Interpolation(final Object hint) {
+        this.hint = hint;
+    }
+
+    /**
+     * Returns the value of the interpolation rendering hint.
+     * @return the value for {@link RenderingHints#KEY_INTERPOLATION}
+     */
+    public Object getHint() {
+        return this.hint;
+    }
+}
@@ -1,22 +1,24 @@
 package it.unibo.towerdefense.view.graphics;
 
-import java.awt.geom.Line2D;
-
-import org.apache.commons.lang3.tuple.Pair;
-
 import java.awt.Graphics2D;
 import java.awt.Color;
+import java.awt.Rectangle;
 
 import it.unibo.towerdefense.commons.engine.LogicalPosition;
 
 /**
  * Class that represents a drawable line.
+ * It can be reused for different ends or color through update.
  */
 public class LineDrawable extends Drawable {
 
-    private final Color color;
+    private Color color;
     private final LogicalPosition to;
     private final LogicalPosition from;
+    private int fromX;
+    private int fromY;
+    private int toX;
+    private int toY;
 
     /**
      * Constructor from LogicalPosition and Color.
@@ -31,20 +33,52 @@ public class LineDrawable extends Drawable {
         this.color = color;
     }
 
+    /**
+     * Creates an empty line, which has both ends in the origin until updated.
+     * @param color the color of the line
+     */
+    public LineDrawable(final Color color) {
+        this(new LogicalPosition(0, 0), new LogicalPosition(0, 0), color);
+    }
+
+    /**
+     * Updates in place the ends and the color of the line.
+     * @param from starting position of the line
+     * @param to ending position of the line
+     * @param color the color of the line
+     */
+    public void update(final LogicalPosition from, final LogicalPosition to, final Color color) {
+        if (!this.from.equals(from) || !this.to.equals(to) || !this.color.equals(color)) {
+            this.from.set(from.getX(), from.getY());
+            this.to.set(to.getX(), to.getY());
+            this.color = color;
+            this.markDirty();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Rectangle computeBounds(final PixelTransform transform) {
+        this.fromX = transform.toPixelX(this.from.getX());
+        this.fromY = transform.toPixelY(this.from.getY());
+        this.toX = transform.toPixelX(this.to.getX());
+        this.toY = transform.toPixelY(this.to.getY());
+        final Rectangle bounds = new Rectangle(this.fromX, this.fromY, 0, 0);
+        bounds.add(this.toX, this.toY);
+        // include the width of the stroke
+        bounds.grow(1, 1);
+        return bounds;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     protected void paint(final Graphics2D g2d) {
-        final Pair<Double, Double> scale = this.getScale();
         // draw line
         g2d.setColor(this.color);
-        final var line = new Line2D.Double(
-            this.from.getRelativeX() * scale.getLeft(),
-            this.from.getRelativeY() * scale.getRight(),
-            this.to.getRelativeX() * scale.getLeft(),
-            this.to.getRelativeY() * scale.getRight()
-        );
-        g2d.draw(line);
+        g2d.drawLine(this.fromX, this.fromY, this.toX, this.toY);
     }
 }
@@ -0,0 +1,261 @@
+package it.unibo.towerdefense.view.graphics;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+import javax.swing.JPanel;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import it.unibo.towerdefense.commons.engine.Size;
+import it.unibo.towerdefense.commons.utils.images.ImageLoader;
+
+/**
+ * Renderer which draws the canvas queue on an in-memory image, without any window.
+ * It works with java.awt.headless=true, so it can be used to benchmark the render
+ * pipeline and to produce reference frames on machines without a display.
+ *
+ * Optionally every Nth frame is saved as a numbered PNG file. Frames are encoded by a
+ * background thread fed by a bounded queue: when the queue is full the rendering thread
+ * encodes the frame itself, so that no frame is lost and memory stays bounded.
+ * Swing panels are ignored, since there is no window to show them.
+ */
+public class OffscreenRendererImpl implements Renderer, AutoCloseable {
+
+    private static final int QUEUE_CAPACITY = 8;
+    private static final long CLOSE_TIMEOUT_SECONDS = 30;
+    private static final String FRAME_FORMAT = "png";
+    private static final String FRAME_NAME = "frame-%06d." + FRAME_FORMAT;
+
+    private final Logger logger = LoggerFactory.getLogger(OffscreenRendererImpl.class);
+    private final FrameComposer composer = new FrameComposer(Color.BLACK);
+    private final Size renderSize;
+    private final PixelTransform transform;
+    private final ImageLoader imageLoader;
+    private final Optional<Path> outputFolder;
+    private final int frameInterval;
+    private final Optional<ThreadPoolExecutor> encoder;
+    private List<Drawable> back = new ArrayList<>();
+    private long frameCount;
+
+    /**
+     * Constructor for a renderer which does not save any frame.
+     * @param mapSize the size of the map in cells
+     * @param renderSize the size in pixels of the rendered image
+     */
+    public OffscreenRendererImpl(final Size mapSize, final Size renderSize) {
+        this(mapSize, renderSize, Optional.empty(), 1);
+    }
+
+    /**
+     * Constructor for a renderer which saves every Nth frame in a folder.
+     * @param mapSize the size of the map in cells
+     * @param renderSize the size in pixels of the rendered image
+     * @param outputFolder the folder where frames are saved, created if missing
+     * @param frameInterval the number of rendered frames between two saved frames
+     * @throws IOException if the folder can't be created
+     */
+    public OffscreenRendererImpl(
+        final Size mapSize,
+        final Size renderSize,
+        final Path outputFolder,
+        final int frameInterval
+    ) throws IOException {
+        this(mapSize, renderSize, Optional.of(createFolder(outputFolder, frameInterval)), frameInterval);
+    }
+
+    private OffscreenRendererImpl(
+        final Size mapSize,
+        final Size renderSize,
+        final Optional<Path> outputFolder,
+        final int frameInterval
+    ) {
+        if (renderSize.getWidth() <= 0 || renderSize.getHeight() <= 0) {
+            throw new IllegalArgumentException("Render size must be > 0");
+        }
+        checkInterval(frameInterval);
+        this.renderSize = renderSize.copy();
+        this.transform = PixelTransform.of(renderSize, mapSize);
+        this.imageLoader = new ImageLoader(renderSize.getWidth() / (double) mapSize.getWidth());
+        this.outputFolder = outputFolder;
+        this.frameInterval = frameInterval;
+        this.encoder = outputFolder.map(folder -> new ThreadPoolExecutor(
+            1,
+            1,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+            new ThreadFactoryBuilder().setNameFormat("FrameEncoder-%d").setDaemon(true).build(),
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        ));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ImageLoader getImageLoader() {
+        return this.imageLoader;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Size getRenderSize() {
+        return this.renderSize.copy();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void renderGame(final JPanel panel) {
+        // no window to show panels on
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void renderControls(final JPanel panel) {
+        // no window to show panels on
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void renderBuyMenu(final JPanel panel) {
+        // no window to show panels on
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void submitToCanvas(final Drawable drawable) {
+        this.back.add(drawable);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void submitAllToCanvas(final List<? extends Drawable> drawables) {
+        this.back.addAll(drawables);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void submitBackgroundAllToCanvas(final List<? extends Drawable> drawables) {
+        this.back.addAll(0, drawables);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void renderCanvas() {
+        // the composer keeps the last frame to find what went away, so start a new queue
+        final List<Drawable> frame = this.back;
+        this.back = new ArrayList<>(frame.size());
+        this.composer.compose(frame, this.renderSize, this.transform);
+        this.frameCount++;
+        if (this.encoder.isPresent() && this.frameCount % this.frameInterval == 0) {
+            final BufferedImage copy = this.getFrame();
+            final Path file = this.outputFolder.get().resolve(String.format(Locale.ROOT, FRAME_NAME, this.frameCount));
+            this.encoder.get().execute(() -> this.write(copy, file));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clearCanvasQueue() {
+        this.back.clear();
+    }
+
+    /**
+     * Returns a copy of the last rendered frame.
+     * @return the frame, fully black if nothing was rendered yet
+     */
+    public BufferedImage getFrame() {
+        final BufferedImage copy = new BufferedImage(
+            this.renderSize.getWidth(),
+            this.renderSize.getHeight(),
+            BufferedImage.TYPE_INT_RGB
+        );
+        final BufferedImage image = this.composer.getImage();
+        if (Objects.nonNull(image)) {
+            final Graphics2D g2d = copy.createGraphics();
+            g2d.drawImage(image, 0, 0, null);
+            g2d.dispose();
+        }
+        return copy;
+    }
+
+    /**
+     * Returns the number of frames rendered so far.
+     * @return the number of calls to {@link #renderCanvas()}
+     */
+    public long getFrameCount() {
+        return this.frameCount;
+    }
+
+    /**
+     * Waits until every requested frame is saved and stops the encoder thread.
+     */
+    @Override
+    public void close() {
+        this.encoder.ifPresent(executor -> {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    logger.warn("Timed out waiting for frames to be saved");
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+
+    private static Path createFolder(final Path folder, final int frameInterval) throws IOException {
+        // validate before touching the file system
+        checkInterval(frameInterval);
+        return Files.createDirectories(folder);
+    }
+
+    private static void checkInterval(final int frameInterval) {
+        if (frameInterval <= 0) {
+            throw new IllegalArgumentException("Frame interval must be > 0");
+        }
+    }
+
+    private void write(final BufferedImage image, final Path file) {
+        try {
+            ImageIO.write(image, FRAME_FORMAT, file.toFile());
+        } catch (final IOException e) {
+            logger.error("Unable to save frame " + file, e);
+        }
+    }
+}
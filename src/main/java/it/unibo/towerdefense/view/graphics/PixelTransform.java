@@ -0,0 +1,82 @@
+package it.unibo.towerdefense.view.graphics;
+
+import it.unibo.towerdefense.commons.engine.LogicalPosition;
+import it.unibo.towerdefense.commons.engine.Size;
+
+/**
+ * Transform from logical coordinates to pixels of the canvas.
+ * Coordinates are converted with integer arithmetic on the whole canvas,
+ * so that rounding errors do not add up across the map.
+ *
+ * @param width the width of the canvas in pixels
+ * @param height the height of the canvas in pixels
+ * @param logicalWidth the width of the map in logical units
+ * @param logicalHeight the height of the map in logical units
+ */
+public record PixelTransform(int width, int height, int logicalWidth, int logicalHeight) {
+
+    /**
+     * Transform used before the size of the map is known,
+     * where a cell is a pixel.
+     */
+    public static final PixelTransform IDENTITY = new PixelTransform(1, 1, 1, 1);
+
+    /**
+     * Constructor checking the sizes.
+     * @param width the width of the canvas in pixels
+     * @param height the height of the canvas in pixels
+     * @param logicalWidth the width of the map in logical units
+     * @param logicalHeight the height of the map in logical units
+     */
+    public PixelTransform(final int width, final int height, final int logicalWidth, final int logicalHeight) {
+        if (logicalWidth <= 0 || logicalHeight <= 0) {
+            throw new IllegalArgumentException("Logical size must be > 0");
+        }
+        this.width = width;
+        this.height = height;
+        this.logicalWidth = logicalWidth;
+        this.logicalHeight = logicalHeight;
+    }
+
+    /**
+     * Creates the transform for a canvas showing the whole map.
+     * @param canvasSize the size of the canvas in pixels
+     * @param mapSize the size of the map in cells
+     * @return the transform
+     */
+    public static PixelTransform of(final Size canvasSize, final Size mapSize) {
+        return new PixelTransform(
+            canvasSize.getWidth(),
+            canvasSize.getHeight(),
+            mapSize.getWidth() * LogicalPosition.SCALING_FACTOR,
+            mapSize.getHeight() * LogicalPosition.SCALING_FACTOR
+        );
+    }
+
+    /**
+     * Converts a logical x coordinate to pixels.
+     * @param x the logical coordinate
+     * @return the coordinate in pixels
+     */
+    public int toPixelX(final int x) {
+        return (int) ((long) x * this.width / this.logicalWidth);
+    }
+
+    /**
+     * Converts a logical y coordinate to pixels.
+     * @param y the logical coordinate
+     * @return the coordinate in pixels
+     */
+    public int toPixelY(final int y) {
+        return (int) ((long) y * this.height / this.logicalHeight);
+    }
+
+    /**
+     * Converts an horizontal logical length to pixels.
+     * @param length the logical length
+     * @return the length in pixels
+     */
+    public int toPixelLength(final int length) {
+        return this.toPixelX(length);
+    }
+}
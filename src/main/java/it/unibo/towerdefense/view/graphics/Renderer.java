@@ -4,6 +4,7 @@ import java.util.List;
 
 import javax.swing.JPanel;
 
+import it.unibo.towerdefense.commons.engine.Size;
 import it.unibo.towerdefense.commons.utils.images.ImageLoader;
 
 /**
@@ -18,6 +19,13 @@ public interface Renderer {
      */
     ImageLoader getImageLoader();
 
+    /**
+     * Returns the current size of the image the game world is rendered on,
+     * which is smaller than the canvas when rendering at reduced scale.
+     * @return the rendered size in pixels
+     */
+    Size getRenderSize();
+
     /**
      * Adds view contents to the game panel.
      * @param panel the panel to display
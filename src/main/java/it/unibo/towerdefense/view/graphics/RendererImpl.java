@@ -27,7 +27,7 @@ public class RendererImpl implements Renderer {
         this.window = window;
         // initialize the image loader
         this.imageLoader = new ImageLoader(
-            window.getCanvasSize().getWidth() / mapSize.getWidth()
+            window.getRenderSize().getWidth() / (double) mapSize.getWidth()
         );
     }
 
@@ -39,6 +39,14 @@ public class RendererImpl implements Renderer {
         return this.imageLoader;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Size getRenderSize() {
+        return this.window.getRenderSize();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,35 @@
+package it.unibo.towerdefense.view.graphics;
+
+import java.util.List;
+
+/**
+ * Retained collection of drawables, where each entity to draw owns a stable
+ * node which is updated in place at each frame instead of being created again.
+ *
+ * @param <K> the type of the keys identifying the entities
+ * @param <N> the type of the nodes
+ */
+public interface SceneGraph<K, N extends Drawable> {
+
+    /**
+     * Starts a new frame, forgetting which nodes were used by the previous one.
+     */
+    void beginFrame();
+
+    /**
+     * Returns the node of the given entity and adds it to the current frame.
+     * The same node is returned for the same key in following frames,
+     * until a frame ends without requesting it.
+     * @param key the identity of the entity
+     * @return the node to update for the entity
+     */
+    N node(K key);
+
+    /**
+     * Ends the current frame, recycling the nodes of the entities which
+     * were not requested.
+     * @return the nodes of the frame, in the order they were requested;
+     *      the list is reused and only valid until the next frame begins
+     */
+    List<N> endFrame();
+}
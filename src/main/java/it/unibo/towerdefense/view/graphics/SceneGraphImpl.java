@@ -0,0 +1,96 @@
+package it.unibo.towerdefense.view.graphics;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of SceneGraph backed by a map from keys to nodes.
+ * Nodes of entities which went away are kept in a pool and reused
+ * for new entities, so that nodes are created only when the number of
+ * entities on screen grows beyond the previous maximum.
+ *
+ * @param <K> the type of the keys identifying the entities
+ * @param <N> the type of the nodes
+ */
+public class SceneGraphImpl<K, N extends Drawable> implements SceneGraph<K, N> {
+
+    private final Supplier<N> factory;
+    private final Map<K, Entry<N>> entries = new HashMap<>();
+    private final Deque<N> pool = new ArrayDeque<>();
+    private final List<N> frame = new ArrayList<>();
+    private final List<N> view = Collections.unmodifiableList(this.frame);
+    private long currentFrame;
+
+    /**
+     * Constructor with the factory of new nodes.
+     * @param factory creates an empty node when the pool is empty
+     */
+    public SceneGraphImpl(final Supplier<N> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void beginFrame() {
+        this.currentFrame++;
+        this.frame.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public N node(final K key) {
+        Entry<N> entry = this.entries.get(key);
+        if (Objects.isNull(entry)) {
+            entry = new Entry<>(this.pool.isEmpty() ? this.factory.get() : this.pool.pop());
+            this.entries.put(key, entry);
+        }
+        // add the node only once per frame
+        if (entry.frame != this.currentFrame) {
+            entry.frame = this.currentFrame;
+            this.frame.add(entry.node);
+        }
+        return entry.node;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<N> endFrame() {
+        final Iterator<Entry<N>> it = this.entries.values().iterator();
+        while (it.hasNext()) {
+            final Entry<N> entry = it.next();
+            if (entry.frame != this.currentFrame) {
+                this.pool.push(entry.node);
+                it.remove();
+            }
+        }
+        return this.view;
+    }
+
+    /**
+     * A node with the last frame in which it was requested.
+     *
+     * @param <N> the type of the node
+     */
+    private static final class Entry<N> {
+        private final N node;
+        private long frame;
+
+        Entry(final N node) {
+            this.node = node;
+        }
+    }
+}
@@ -1,36 +1,57 @@
 package it.unibo.towerdefense.view.map;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 import org.imgscalr.Scalr;
 import org.imgscalr.Scalr.Rotation;
 
+import java.awt.Graphics2D;
+import java.awt.Transparency;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 
 import it.unibo.towerdefense.commons.dtos.map.CellInfo;
 import it.unibo.towerdefense.commons.engine.Direction;
+import it.unibo.towerdefense.commons.engine.LogicalPosition;
+import it.unibo.towerdefense.commons.engine.Size;
 import it.unibo.towerdefense.view.graphics.Renderer;
 import it.unibo.towerdefense.view.graphics.ImageDrawable;
+import it.unibo.towerdefense.view.graphics.PixelTransform;
 import it.unibo.towerdefense.commons.utils.images.ImageLoader;
 
 /**
  * Class that implements MapRenderer with images from specific files.
+ * The whole map is composed once in a single image, which is composed again
+ * only when the state of a cell or the size of the canvas changes.
  */
 public class MapRendererImpl implements MapRenderer {
 
     private static final String ROOT = "it/unibo/towerdefense/view/map/";
     private static final String EXTENSION = ".png";
     private static final List<String> NAMES = List.of("straight", "curve", "buildable", "obstacle", "selected");
+    private static final int PATH_TILES = 7;
     private final List<BufferedImage> images = new ArrayList<>();
+    private final BufferedImage[] pathTiles = new BufferedImage[PATH_TILES];
+    private final Size mapSize;
+    // buffers reused by every frame, so that rendering an unchanged map allocates nothing
+    private final List<CellInfo> cells = new ArrayList<>();
+    private BitSet cellsState = new BitSet();
+    private BitSet frameState = new BitSet();
+    private Size canvasSize = Size.of(0, 0);
+    private ImageDrawable background;
 
     /**
-     * Constructor from ImageLoader.
+     * Constructor from ImageLoader and size of the map.
      * @param imLo Object to load images from files.
+     * @param mapSize size of the map in cells.
      */
-    public MapRendererImpl(final ImageLoader imLo) {
+    public MapRendererImpl(final ImageLoader imLo, final Size mapSize) {
+        this.mapSize = mapSize.copy();
         for (final String name: NAMES) {
             try {
                 images.add(imLo.loadImage(ROOT + name + EXTENSION, 1.0));
@@ -38,6 +59,21 @@ public class MapRendererImpl implements MapRenderer {
                 throw new UncheckedIOException("Failed to initialize the image for type " + name, e);
             }
         }
+        // rotate path tiles once, at the scale of the loader
+        for (int i = 0; i < PATH_TILES; i++) {
+            pathTiles[i] = rotatedPath(i);
+        }
+    }
+
+    /**
+     * Requests in background all the images needed to render the map.
+     * @param imLo Object to load images from files.
+     * @return the futures of the requested images.
+     */
+    public static List<CompletableFuture<BufferedImage>> preload(final ImageLoader imLo) {
+        return NAMES.stream()
+            .map(name -> imLo.loadImageAsync(ROOT + name + EXTENSION, 1.0))
+            .toList();
     }
 
     /**
@@ -45,10 +81,71 @@ public class MapRendererImpl implements MapRenderer {
      */
     @Override
     public void render(final Renderer renderer, final Stream<CellInfo> mapInfo) {
-        final var mapDrawables = mapInfo.map(c -> new ImageDrawable(getImage(c), c.getPosition())).toList();
-        renderer.submitBackgroundAllToCanvas(mapDrawables);
+        cells.clear();
+        mapInfo.forEachOrdered(cells::add);
+        state(cells, frameState);
+        final Size size = renderer.getRenderSize();
+        if (size.getWidth() <= 0 || size.getHeight() <= 0) {
+            return;
+        }
+        if (Objects.isNull(background) || !frameState.equals(cellsState)
+            || size.getWidth() != canvasSize.getWidth() || size.getHeight() != canvasSize.getHeight()) {
+            background = compose(cells, size);
+            // swap the buffers, the previous state is overwritten by the next frame
+            final BitSet previous = cellsState;
+            cellsState = frameState;
+            frameState = previous;
+            canvasSize = size;
+        }
+        renderer.submitBackgroundAllToCanvas(List.of(background));
     }
 
+    /**
+     * Draws every cell on a single image as big as the canvas.
+     * @param cells the cells of the map.
+     * @param size the size of the canvas.
+     * @return the drawable of the whole map.
+     */
+    private ImageDrawable compose(final List<CellInfo> cells, final Size size) {
+        final BufferedImage image = ImageLoader.createCompatibleImage(size.getWidth(), size.getHeight(), Transparency.OPAQUE);
+        final Graphics2D g2d = image.createGraphics();
+        final PixelTransform transform = PixelTransform.of(size, mapSize);
+        for (final CellInfo c: cells) {
+            // stretch each cell to its exact area, so that no gap is left between cells
+            final LogicalPosition pos = c.getPosition();
+            final int half = LogicalPosition.SCALING_FACTOR / 2;
+            final int x = transform.toPixelX(pos.getX() - half);
+            final int y = transform.toPixelY(pos.getY() - half);
+            g2d.drawImage(
+                getImage(c),
+                x,
+                y,
+                transform.toPixelX(pos.getX() + half) - x,
+                transform.toPixelY(pos.getY() + half) - y,
+                null
+            );
+        }
+        g2d.dispose();
+        return new ImageDrawable(image, new LogicalPosition(
+            mapSize.getWidth() * LogicalPosition.SCALING_FACTOR / 2,
+            mapSize.getHeight() * LogicalPosition.SCALING_FACTOR / 2
+        ));
+    }
+
+    /**
+     * Returns the state of the cells which affects the way they are drawn:
+     * for each cell two bits, buildable and selected.
+     * @param cells the cells of the map.
+     * @param state the buffer to write the state of the cells into, cleared first.
+     */
+    private static void state(final List<CellInfo> cells, final BitSet state) {
+        state.clear();
+        for (int i = 0; i < cells.size(); i++) {
+            final CellInfo c = cells.get(i);
+            state.set(i * 2, c.isBuildable());
+            state.set(i * 2 + 1, c.isSelected());
+        }
+    }
 
     private BufferedImage getImage(final CellInfo c) {
         return c.isPathCell() ? path(c.getDirections().getLeft(), c.getDirections().getRight()) : buildable(c);
@@ -59,7 +156,15 @@ public class MapRendererImpl implements MapRenderer {
     }
 
     private BufferedImage path(final Direction in, final Direction out) {
-        final int i = index(in, out);
+        return pathTiles[index(in, out)];
+    }
+
+    /**
+     * Returns the path tile corresponding to the given index, rotating the base tiles.
+     * @param i the index of the tile, as returned by index(in, out).
+     * @return the rotated tile.
+     */
+    private BufferedImage rotatedPath(final int i) {
         final int straightIndex = 5;
         return i < 2 ? images.get(i) : Scalr.rotate(images.get(i < straightIndex ? 1 : 0), Rotation.values()[2 - (i % 3)]);
     }
@@ -4,10 +4,13 @@ import java.util.List;
 import java.awt.Component;
 import java.awt.FlowLayout;
 import java.awt.event.ActionListener;
+import java.util.function.DoubleSupplier;
 
 import javax.swing.JPanel;
+import javax.swing.JProgressBar;
 import javax.swing.JButton;
 import javax.swing.BoxLayout;
+import javax.swing.Timer;
 
 import it.unibo.towerdefense.controller.menu.StartMenuController;
 import it.unibo.towerdefense.view.modal.ModalContent;
@@ -21,15 +24,31 @@ public class StartMenuViewImpl implements ModalContent {
     private static final String LOAD_GAME_LABEL = "Load game";
     private static final String SCOREBOARD_LABEL = "Scoreboard";
     private static final String QUIT_LABEL = "Quit";
+    private static final String LOADING_LABEL = "Loading assets";
+    private static final int PROGRESS_MAX = 100;
+    private static final int PROGRESS_REFRESH_MILLIS = 50;
 
     private final StartMenuController controller;
+    private final DoubleSupplier progress;
+    private Timer progressTimer;
 
     /**
      * MenuView constructor passing reference to its controller.
      * @param controller the MenuController
      */
     public StartMenuViewImpl(final StartMenuController controller) {
+        this(controller, () -> 1.0);
+    }
+
+    /**
+     * MenuView constructor passing reference to its controller and the progress
+     * of the assets loaded in background.
+     * @param controller the MenuController
+     * @param progress the fraction of loaded assets, from 0 to 1
+     */
+    public StartMenuViewImpl(final StartMenuController controller, final DoubleSupplier progress) {
         this.controller = controller;
+        this.progress = progress;
     }
 
     /**
@@ -50,6 +69,10 @@ public class StartMenuViewImpl implements ModalContent {
             createButton(QUIT_LABEL, (e) -> this.close(onClose))
         );
         buttons.stream().forEach((button) -> innerPanel.add(button));
+        // show the loading progress until all assets are ready
+        if (this.progress.getAsDouble() < 1.0) {
+            innerPanel.add(this.createProgressBar());
+        }
         // add inner panel to main panel
         panel.add(innerPanel);
         return panel;
@@ -68,12 +91,36 @@ public class StartMenuViewImpl implements ModalContent {
         return panel;
     }
 
+    private Component createProgressBar() {
+        final JProgressBar bar = new JProgressBar(0, PROGRESS_MAX);
+        bar.setString(LOADING_LABEL);
+        bar.setStringPainted(true);
+        this.progressTimer = new Timer(PROGRESS_REFRESH_MILLIS, e -> {
+            final double value = this.progress.getAsDouble();
+            bar.setValue((int) (value * PROGRESS_MAX));
+            if (value >= 1.0) {
+                bar.setVisible(false);
+                this.stopProgress();
+            }
+        });
+        this.progressTimer.start();
+        return bar;
+    }
+
+    private void stopProgress() {
+        if (this.progressTimer != null) {
+            this.progressTimer.stop();
+        }
+    }
+
     private void play(final Runnable onClose) {
+        this.stopProgress();
         onClose.run();
         this.controller.play();
     }
 
     private void close(final Runnable onClose) {
+        this.stopProgress();
         onClose.run();
         this.controller.exit();
     }
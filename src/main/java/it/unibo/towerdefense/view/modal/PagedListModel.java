@@ -0,0 +1,54 @@
+package it.unibo.towerdefense.view.modal;
+
+import java.util.List;
+
+import javax.swing.AbstractListModel;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+import it.unibo.towerdefense.commons.api.PagedSource;
+
+/**
+ * List model fetching its elements from a paged source as they are displayed.
+ * Used with a list having a fixed cell size, only the pages of the visible
+ * rows are fetched, and only the most recently displayed pages are kept.
+ * @param <T> the type of the elements
+ */
+public class PagedListModel<T> extends AbstractListModel<T> {
+
+    private static final long serialVersionUID = 1L;
+    private static final int PAGE_SIZE = 50;
+    private static final int CACHED_PAGES = 8;
+
+    private final int size;
+    private final transient LoadingCache<Integer, List<T>> pages;
+
+    /**
+     * Constructor from the paged source.
+     * @param source the source of the elements
+     */
+    public PagedListModel(final PagedSource<T> source) {
+        this.size = source.size();
+        this.pages = CacheBuilder.newBuilder()
+            .maximumSize(CACHED_PAGES)
+            .build(CacheLoader.from(page -> source.getPage(page * PAGE_SIZE, PAGE_SIZE)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T getElementAt(final int index) {
+        return this.pages.getUnchecked(index / PAGE_SIZE).get(index % PAGE_SIZE);
+    }
+}
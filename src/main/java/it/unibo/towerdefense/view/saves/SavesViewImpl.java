@@ -1,27 +1,39 @@
 package it.unibo.towerdefense.view.saves;
 
+import java.awt.Component;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
 import java.text.SimpleDateFormat;
-import java.util.List;
 import java.util.Locale;
 
 import javax.swing.BorderFactory;
 import javax.swing.BoxLayout;
+import javax.swing.DefaultListCellRenderer;
 import javax.swing.JButton;
 import javax.swing.JLabel;
+import javax.swing.JList;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
+import javax.swing.ListSelectionModel;
 import javax.swing.ScrollPaneConstants;
 
+import it.unibo.towerdefense.commons.api.PagedSource;
+import it.unibo.towerdefense.commons.dtos.game.GameDTO;
 import it.unibo.towerdefense.controller.saves.SavesController;
 import it.unibo.towerdefense.model.saves.Save;
+import it.unibo.towerdefense.view.modal.PagedListModel;
 
 /**
  * Saves View implementation.
- *
+ * Saves are shown in a list which fetches and renders only the visible rows.
  */
 public class SavesViewImpl implements SavesView {
 
     private static final int BOTTOM_BORDER = 10;
+    private static final int ROW_WIDTH = 340;
+    private static final int ROW_HEIGHT = 28;
+    private static final int VISIBLE_ROWS = 7;
+    private static final int LOAD_CLICKS = 2;
     private final SavesController controller;
 
     /**
@@ -37,76 +49,88 @@ public class SavesViewImpl implements SavesView {
      */
     @Override
     public JPanel build(final Runnable onClose) {
-        // get the list of saves
-        final List<Save> saves = this.controller.getSaves();
+        // get the source of saves
+        final PagedSource<Save> saves = this.controller.getSaves();
         // create main panel
         final JPanel panel = new JPanel();
         panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
-        // create inner panel
-        final JPanel innerPanel = new JPanel();
-        innerPanel.setLayout(new BoxLayout(innerPanel, BoxLayout.Y_AXIS));
+        // create scroll pane
+        final JScrollPane scrollPane = new JScrollPane();
+        scrollPane.setVerticalScrollBarPolicy(ScrollPaneConstants.VERTICAL_SCROLLBAR_ALWAYS);
+        scrollPane.setHorizontalScrollBarPolicy(ScrollPaneConstants.HORIZONTAL_SCROLLBAR_NEVER);
+        // create load button, enabled once a save is selected
+        final JButton loadButton = new JButton("Load");
+        loadButton.setAlignmentX(JButton.CENTER_ALIGNMENT);
+        loadButton.setEnabled(false);
         // if there are no saves, display a message
-        if (saves.isEmpty()) {
+        if (saves.size() == 0) {
+            final JPanel innerPanel = new JPanel();
+            innerPanel.setLayout(new BoxLayout(innerPanel, BoxLayout.Y_AXIS));
             final JLabel noSavesLabel = new JLabel("No saves available");
             noSavesLabel.setAlignmentX(JLabel.CENTER_ALIGNMENT);
             noSavesLabel.setBorder(
                 BorderFactory.createEmptyBorder(0, 0, BOTTOM_BORDER, 0)
             );
             innerPanel.add(noSavesLabel);
-        }
-        // create a panel for each save
-        for (final Save save: saves) {
-            innerPanel.add(
-                new SavesPanel(
-                    save,
-                    onClose
-                )
-            );
+            scrollPane.setViewportView(innerPanel);
+        } else {
+            // only the visible saves are fetched and rendered
+            final JList<Save> list = new JList<>(new PagedListModel<>(saves));
+            list.setCellRenderer(new SavesRenderer());
+            list.setFixedCellWidth(ROW_WIDTH);
+            list.setFixedCellHeight(ROW_HEIGHT);
+            list.setVisibleRowCount(VISIBLE_ROWS);
+            list.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+            list.addListSelectionListener(e -> loadButton.setEnabled(!list.isSelectionEmpty()));
+            // a double click loads the save too
+            list.addMouseListener(new MouseAdapter() {
+                @Override
+                public void mouseClicked(final MouseEvent e) {
+                    if (e.getClickCount() == LOAD_CLICKS && !list.isSelectionEmpty()) {
+                        load(list.getSelectedValue(), onClose);
+                    }
+                }
+            });
+            loadButton.addActionListener(e -> load(list.getSelectedValue(), onClose));
+            scrollPane.setViewportView(list);
         }
         // add close button
         final JButton closeButton = new JButton("Close");
         closeButton.setAlignmentX(JButton.CENTER_ALIGNMENT);
         closeButton.addActionListener(e -> onClose.run());
-        // create scroll pane
-        final JScrollPane scrollPane = new JScrollPane(innerPanel);
-        scrollPane.setVerticalScrollBarPolicy(ScrollPaneConstants.VERTICAL_SCROLLBAR_ALWAYS);
-        scrollPane.setHorizontalScrollBarPolicy(ScrollPaneConstants.HORIZONTAL_SCROLLBAR_NEVER);
         // add components to the main panel
         panel.add(scrollPane);
+        panel.add(loadButton);
         panel.add(closeButton);
         return panel;
     }
 
-    private class SavesPanel extends JPanel {
+    private void load(final Save save, final Runnable onClose) {
+        this.controller.loadSave(save);
+        onClose.run();
+    }
+
+    private static class SavesRenderer extends DefaultListCellRenderer {
         private static final long serialVersionUID = 1L;
         private static final String DATE_FORMAT = "dd/MM/yyyy HH:mm:ss";
-        private final Save save;
-        private final Runnable onClose;
 
-        private void onClick() {
-            controller.loadSave(this.save);
-            this.onClose.run();
-        }
-
-        SavesPanel(final Save save, final Runnable onClose) {
-            this.save = save;
-            this.onClose = onClose;
-            // build the view
-            this.add(new JLabel(this.formatDate(save)));
-            // create load button and add it to the panel
-            final JButton loadButton = new JButton("Load");
-            loadButton.addActionListener(e -> onClick());
-            this.add(loadButton);
-            // set horizontal alignment
-            this.setAlignmentX(JPanel.CENTER_ALIGNMENT);
-            // add bottom padding
-            this.setBorder(
-                BorderFactory.createEmptyBorder(0, 0, BOTTOM_BORDER, 0)
-            );
+        @Override
+        public Component getListCellRendererComponent(
+            final JList<?> list,
+            final Object value,
+            final int index,
+            final boolean isSelected,
+            final boolean cellHasFocus
+        ) {
+            super.getListCellRendererComponent(list, value, index, isSelected, cellHasFocus);
+            this.setText(this.formatDate((Save) value));
+            this.setHorizontalAlignment(JLabel.CENTER);
+            return this;
         }
 
         private String formatDate(final Save save) {
-            return new SimpleDateFormat(DATE_FORMAT, Locale.getDefault()).format(save.getDate());
+            return new SimpleDateFormat(DATE_FORMAT, Locale.getDefault()).format(save.getDate())
+                + " - Wave " + GameDTO.fromJson(save.getGameJson()).getWave();
         }
     }
 }
@@ -1,18 +1,23 @@
 package it.unibo.towerdefense.view.scoreboard;
 
+import java.awt.Component;
 import java.awt.Font;
 import java.awt.GridLayout;
 
 import javax.swing.BorderFactory;
 import javax.swing.BoxLayout;
 import javax.swing.JLabel;
+import javax.swing.JList;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
+import javax.swing.ListCellRenderer;
+import javax.swing.ListSelectionModel;
 import javax.swing.ScrollPaneConstants;
 import javax.swing.JButton;
 
 import it.unibo.towerdefense.commons.dtos.scoreboard.ScoreboardDTO;
 import it.unibo.towerdefense.model.scoreboard.Score;
+import it.unibo.towerdefense.view.modal.PagedListModel;
 
 /**
  * Scoreboard View implementation.
@@ -21,10 +26,15 @@ public class ScoreboardViewImpl implements ScoreboardView {
 
     private static final String CLOSE = "Close";
     private static final String NO_SCORES_AVAILABLE = "No scores available";
-    private static final String COLUMN_1 = "NAME";
-    private static final String COLUMN_2 = "WAVE";
+    private static final String COLUMN_1 = "RANK";
+    private static final String COLUMN_2 = "NAME";
+    private static final String COLUMN_3 = "WAVE";
+    private static final String RANK_PREFIX = "#";
     private static final int BORDER_SIZE = 10;
     private static final int RIGHT_BORDER = 0;
+    private static final int ROW_WIDTH = 340;
+    private static final int ROW_HEIGHT = 32;
+    private static final int VISIBLE_ROWS = 6;
 
     private final ScoreboardDTO scoreboard;
 
@@ -52,37 +62,38 @@ public class ScoreboardViewImpl implements ScoreboardView {
                 RIGHT_BORDER
             )
         );
-        // create inner pnl for differing layout and add to main panel
-        final JPanel innerPnl = new JPanel();
-        innerPnl.setLayout(new BoxLayout(innerPnl, BoxLayout.Y_AXIS));
+        // create scroll panel
+        final JScrollPane scrollPane = new JScrollPane();
         // if no scores are available, display a message
-        if (this.scoreboard.getScores().isEmpty()) {
+        if (this.scoreboard.getRankedScores().size() == 0) {
+            // create inner pnl for differing layout and add to the scroll panel
+            final JPanel innerPnl = new JPanel();
+            innerPnl.setLayout(new BoxLayout(innerPnl, BoxLayout.Y_AXIS));
             final JLabel noSavesLabel = new JLabel(NO_SCORES_AVAILABLE);
             noSavesLabel.setAlignmentX(JLabel.CENTER_ALIGNMENT);
             noSavesLabel.setBorder(
                 BorderFactory.createEmptyBorder(0, 0, BORDER_SIZE, 0)
             );
             innerPnl.add(noSavesLabel);
+            scrollPane.setViewportView(innerPnl);
         } else {
             // add scoreboard header
-            innerPnl.add(new ScoreboardEntry(COLUMN_1, COLUMN_2, true));
-            // for each scoreboard entry, create a panel and add to inner panel
-            for (final Score entry: this.scoreboard.getTopTenScores()) {
-                innerPnl.add(
-                    new ScoreboardEntry(
-                        entry.getName(),
-                        String.valueOf(entry.getWave()),
-                        false
-                    )
-                );
-            }
+            final ScoreboardEntry header = new ScoreboardEntry(true);
+            header.setColumns(COLUMN_1, COLUMN_2, COLUMN_3);
+            scrollPane.setColumnHeaderView(header);
+            // only the visible entries are fetched and rendered, by a single reused panel
+            final JList<Score> list = new JList<>(new PagedListModel<>(this.scoreboard.getRankedScores()));
+            list.setCellRenderer(new ScoreboardRenderer());
+            list.setFixedCellWidth(ROW_WIDTH);
+            list.setFixedCellHeight(ROW_HEIGHT);
+            list.setVisibleRowCount(VISIBLE_ROWS);
+            list.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+            scrollPane.setViewportView(list);
         }
         // create close button
         final JButton closeButton = new JButton(CLOSE);
         closeButton.setAlignmentX(JButton.CENTER_ALIGNMENT);
         closeButton.addActionListener(e -> onClose.run());
-        // create scroll panel
-        final JScrollPane scrollPane = new JScrollPane(innerPnl);
         scrollPane.setVerticalScrollBarPolicy(ScrollPaneConstants.VERTICAL_SCROLLBAR_ALWAYS);
         scrollPane.setHorizontalScrollBarPolicy(ScrollPaneConstants.HORIZONTAL_SCROLLBAR_NEVER);
         // add components to the main panel
@@ -92,28 +103,60 @@ public class ScoreboardViewImpl implements ScoreboardView {
         return panel;
     }
 
+    private final class ScoreboardRenderer implements ListCellRenderer<Score> {
+        private final ScoreboardEntry entry = new ScoreboardEntry(false);
+
+        @Override
+        public Component getListCellRendererComponent(
+            final JList<? extends Score> list,
+            final Score score,
+            final int index,
+            final boolean isSelected,
+            final boolean cellHasFocus
+        ) {
+            this.entry.setColumns(
+                RANK_PREFIX + scoreboard.getRank(score.getWave()),
+                score.getName(),
+                String.valueOf(score.getWave())
+            );
+            this.entry.setBackground(isSelected ? list.getSelectionBackground() : list.getBackground());
+            return this.entry;
+        }
+    }
+
     private static class ScoreboardEntry extends JPanel {
         private static final long serialVersionUID = 1L;
         private static final String FONT_NAME = "Calibri";
         private static final int ENTRY_V_SPACING = 20;
         private static final int FONT_SIZE = 24;
+        private static final int COLUMNS = 3;
+
+        private final JLabel[] labels = new JLabel[COLUMNS];
 
-        private static JLabel buildText(final String text, final boolean bold) {
-            final JLabel label = new JLabel(text);
+        private static JLabel buildText(final boolean bold) {
+            final JLabel label = new JLabel();
             label.setFont(new Font(FONT_NAME, bold ? Font.BOLD : Font.PLAIN, FONT_SIZE));
             return label;
         }
 
-        ScoreboardEntry(final String col1, final String col2, final boolean header) {
+        ScoreboardEntry(final boolean header) {
             // set layout
-            final GridLayout layout = new GridLayout(1, 2);
+            final GridLayout layout = new GridLayout(1, COLUMNS);
             layout.setHgap(ENTRY_V_SPACING);
             this.setLayout(layout);
             // set horizontal alignment
             this.setAlignmentX(JPanel.CENTER_ALIGNMENT);
             // add text
-            this.add(buildText(col1, header));
-            this.add(buildText(String.valueOf(col2), header));
+            for (int i = 0; i < COLUMNS; i++) {
+                this.labels[i] = buildText(header);
+                this.add(this.labels[i]);
+            }
+        }
+
+        void setColumns(final String... columns) {
+            for (int i = 0; i < COLUMNS; i++) {
+                this.labels[i].setText(columns[i]);
+            }
         }
     }
 }
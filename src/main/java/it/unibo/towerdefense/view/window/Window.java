@@ -8,6 +8,7 @@ import it.unibo.towerdefense.commons.engine.Position;
 import it.unibo.towerdefense.commons.engine.Size;
 import it.unibo.towerdefense.commons.patterns.Observer;
 import it.unibo.towerdefense.view.graphics.Drawable;
+import it.unibo.towerdefense.view.graphics.Interpolation;
 import it.unibo.towerdefense.view.modal.ModalContent;
 
 /**
@@ -37,6 +38,20 @@ public interface Window {
      */
     Size getCanvasSize();
 
+    /**
+     * Get the size at which the game world is rendered on the canvas.
+     * @return the size of the rendered image
+     */
+    Size getRenderSize();
+
+    /**
+     * Set the scale at which the game world is rendered, the rest of the
+     * window is always drawn at native resolution.
+     * @param scale the ratio between the rendered size and the canvas size, in (0, 1]
+     * @param interpolation the interpolation used when upscaling
+     */
+    void setRenderScale(double scale, Interpolation interpolation);
+
     /**
      * Display a error message.
      * @param message the message to display
@@ -122,4 +137,17 @@ public interface Window {
      * Close all open modal.
      */
     void closeModals();
+
+    /**
+     * Returns whether the window is on screen, that is shown and not iconified.
+     * @return true if the window is displayed
+     */
+    boolean isDisplayed();
+
+    /**
+     * Adds an observer notified, on the event dispatch thread, each time the
+     * window is hidden or iconified, with false, and each time it is displayed again, with true.
+     * @param observer the observer to add
+     */
+    void addDisplayObserver(Observer<Boolean> observer);
 }
@@ -1,9 +1,13 @@
 package it.unibo.towerdefense.view.window;
 
+import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.FlowLayout;
+import java.awt.Frame;
 import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -25,6 +29,7 @@ import it.unibo.towerdefense.commons.patterns.Observer;
 import it.unibo.towerdefense.view.graphics.Canvas;
 import it.unibo.towerdefense.view.graphics.CanvasImpl;
 import it.unibo.towerdefense.view.graphics.Drawable;
+import it.unibo.towerdefense.view.graphics.Interpolation;
 import it.unibo.towerdefense.view.modal.Modal;
 import it.unibo.towerdefense.view.modal.ModalContent;
 import it.unibo.towerdefense.view.modal.ModalImpl;
@@ -41,12 +46,15 @@ public class WindowImpl implements Window {
         LoggerFactory.getLogger(WindowImpl.class);
     private final List<Modal> openModals =
         new ArrayList<>();
+    private final List<Observer<Boolean>> displayObservers =
+        new ArrayList<>();
     private final Size resolution;
     private final JFrame frame;
     private final Canvas canvas;
     private final JPanel buyMenu;
     private final JPanel gamePanel;
     private final JPanel controlsPanel;
+    private volatile boolean displayed;
 
     /**
      * Creates a window with the specified size.
@@ -84,7 +92,7 @@ public class WindowImpl implements Window {
         this.canvas.setBounds(wMenu, 0, h, h);
         this.buyMenu.setBounds(wMenu + h, 0, wMenu, h);
         // add panels to frame
-        this.frame.add((JPanel) this.canvas);
+        this.frame.add((Component) this.canvas);
         this.frame.add(infoPanel);
         this.frame.add(this.buyMenu);
         // add gamePanel and controlsPanel to container
@@ -109,9 +117,36 @@ public class WindowImpl implements Window {
                 final Modal dialog = openModals.get(openModals.size() - 1);
                 dialog.setPositionRelativeToParent();
             }
+
+            @Override
+            public void componentShown(final ComponentEvent e) {
+                WindowImpl.this.updateDisplayed();
+            }
+
+            @Override
+            public void componentHidden(final ComponentEvent e) {
+                WindowImpl.this.updateDisplayed();
+            }
         };
         // add the component listener
         frame.addComponentListener(componentAdapter);
+        // track when the window is iconified or restored
+        frame.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowIconified(final WindowEvent e) {
+                WindowImpl.this.setDisplayed(false);
+            }
+
+            @Override
+            public void windowDeiconified(final WindowEvent e) {
+                WindowImpl.this.updateDisplayed();
+            }
+
+            @Override
+            public void windowOpened(final WindowEvent e) {
+                WindowImpl.this.updateDisplayed();
+            }
+        });
     }
 
     /**
@@ -130,7 +165,7 @@ public class WindowImpl implements Window {
         this.frame.setResizable(false);
         // push frame on screen
         this.frame.setVisible(true);
-        logger.info("Window displayed");
+        this.updateDisplayed();
     }
 
     /**
@@ -139,6 +174,7 @@ public class WindowImpl implements Window {
     @Override
     public void close() {
         this.frame.dispose();
+        this.setDisplayed(false);
         logger.info("Window closed");
     }
 
@@ -158,6 +194,22 @@ public class WindowImpl implements Window {
         return this.canvas.getCanvasSize();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Size getRenderSize() {
+        return this.canvas.getRenderSize();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setRenderScale(final double scale, final Interpolation interpolation) {
+        this.canvas.setRenderScale(scale, interpolation);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -292,6 +344,34 @@ public class WindowImpl implements Window {
         this.openModals.clear();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isDisplayed() {
+        return this.displayed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addDisplayObserver(final Observer<Boolean> observer) {
+        this.displayObservers.add(observer);
+    }
+
+    private void updateDisplayed() {
+        this.setDisplayed(this.frame.isShowing() && (this.frame.getExtendedState() & Frame.ICONIFIED) == 0);
+    }
+
+    private void setDisplayed(final boolean displayed) {
+        if (this.displayed != displayed) {
+            this.displayed = displayed;
+            logger.info(displayed ? "Window displayed" : "Window hidden");
+            this.displayObservers.forEach(observer -> observer.notify(displayed));
+        }
+    }
+
     private void hideAllModals() {
         this.openModals.forEach((m) -> m.setVisible(false));
     }
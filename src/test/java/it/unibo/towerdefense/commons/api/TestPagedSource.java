@@ -0,0 +1,59 @@
+package it.unibo.towerdefense.commons.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for PagedSource.
+ */
+class TestPagedSource {
+
+    private static final int SIZE = 10;
+    private static final int PAGE = 4;
+
+    private final List<Integer> elements = IntStream.range(0, SIZE).boxed().toList();
+
+    /**
+     * Test pages of a source backed by a list, including the pages past its end.
+     */
+    @Test
+    void testPages() {
+        final PagedSource<Integer> source = PagedSource.of(this.elements);
+        Assertions.assertEquals(SIZE, source.size());
+        Assertions.assertEquals(List.of(0, 1, 2, 3), source.getPage(0, PAGE));
+        Assertions.assertEquals(List.of(8, 9), source.getPage(8, PAGE));
+        Assertions.assertTrue(source.getPage(SIZE, PAGE).isEmpty());
+        Assertions.assertTrue(source.getPage(-1, 0).isEmpty());
+    }
+
+    /**
+     * Test that elements are mapped only when their page is requested.
+     */
+    @Test
+    void testMapIsLazy() {
+        final List<Integer> mapped = new ArrayList<>();
+        final PagedSource<String> source = PagedSource.of(this.elements).map(i -> {
+            mapped.add(i);
+            return String.valueOf(i);
+        });
+        Assertions.assertEquals(SIZE, source.size());
+        Assertions.assertTrue(mapped.isEmpty());
+        Assertions.assertEquals(List.of("4", "5"), source.getPage(4, 2));
+        Assertions.assertEquals(List.of(4, 5), mapped);
+    }
+
+    /**
+     * Test pages across the end of a source and the appended elements.
+     */
+    @Test
+    void testAppend() {
+        final PagedSource<Integer> source = PagedSource.of(this.elements).append(List.of(SIZE, SIZE + 1));
+        Assertions.assertEquals(SIZE + 2, source.size());
+        Assertions.assertEquals(List.of(8, 9, SIZE, SIZE + 1), source.getPage(8, PAGE));
+        Assertions.assertEquals(List.of(SIZE + 1), source.getPage(SIZE + 1, PAGE));
+    }
+}
@@ -5,9 +5,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Test class for the FileUtils class.
@@ -68,6 +72,29 @@ class TestFileUtils {
         );
     }
 
+    /**
+     * Test writeFileAtomically replaces the file and leaves no temporary file behind.
+     * @throws IOException if the temporary directory cannot be listed
+     */
+    @Test
+    void testWriteFileAtomically() throws IOException {
+        Assertions.assertDoesNotThrow(() -> FileUtils.writeFile(TEST_FILE, "old content"));
+        Assertions.assertDoesNotThrow(() ->
+            FileUtils.writeFileAtomically(TEST_FILE, TEST_CONTENT.getBytes(StandardCharsets.UTF_8))
+        );
+        Assertions.assertDoesNotThrow(() ->
+            Assertions.assertEquals(
+                FileUtils.readFile(TEST_FILE),
+                TEST_CONTENT
+            )
+        );
+        final String prefix = Paths.get(TEST_FILE).getFileName().toString();
+        try (Stream<Path> files = Files.list(Paths.get(TMP_DIR))) {
+            Assertions.assertTrue(files.map(f -> f.getFileName().toString())
+                .noneMatch(name -> name.startsWith(prefix) && name.endsWith(".tmp")));
+        }
+    }
+
     @Test
     void testReadFileOptional() {
         final Path path = Paths.get(TEST_FILE);
@@ -2,14 +2,20 @@ package it.unibo.towerdefense.commons.utils.images;
 
 import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 /**
  * Tests for ImageLoader.
+ * Every loader stores its scaled images in a temporary folder,
+ * so that the tests never write in the real sprite cache.
  */
 class TestImageLoader {
 
@@ -41,10 +47,11 @@ class TestImageLoader {
 
         /**
          * Initializes an ImageLoader to be tested.
+         * @param cacheFolder the folder of the disk cache
          */
         @BeforeEach
-        void init() {
-            tested = new ImageLoader(SIZE);
+        void init(final @TempDir Path cacheFolder) {
+            tested = new ImageLoader(SIZE, cacheFolder.toString());
         }
 
         /**
@@ -76,10 +83,16 @@ class TestImageLoader {
      * @param filename the name of the image to load
      * @param size     the size of a square cell
      * @param scale    the desired scale relative to a cell
+     * @param cacheFolder the folder of the disk cache
      * @throws IOException if the image can't be loaded
      */
-    private void testScaling(final String filename, final int size, final double scale) throws IOException {
-        final ImageLoader loader = new ImageLoader(size);
+    private void testScaling(
+        final String filename,
+        final int size,
+        final double scale,
+        final Path cacheFolder
+    ) throws IOException {
+        final ImageLoader loader = new ImageLoader(size, cacheFolder.toString());
         final BufferedImage test = loader.loadImage(filename, scale);
         /*
          * Image can't be bigger than size*scale x size*scale
@@ -94,19 +107,57 @@ class TestImageLoader {
 
     /**
      * Tests a square image loads with the desired size.
+     * @param cacheFolder the folder of the disk cache
      */
     @Test
-    void testLoadSquareImage() throws IOException {
-        testScaling("it/unibo/towerdefense/utils/images/test.png", SSIZE1, SSCALE1);
-        testScaling("it/unibo/towerdefense/utils/images/test.png", SSIZE2, SSCALE2);
+    void testLoadSquareImage(final @TempDir Path cacheFolder) throws IOException {
+        testScaling("it/unibo/towerdefense/utils/images/test.png", SSIZE1, SSCALE1, cacheFolder);
+        testScaling("it/unibo/towerdefense/utils/images/test.png", SSIZE2, SSCALE2, cacheFolder);
     }
 
     /**
      * Tests a rectangular image loads with the desired size.
+     * @param cacheFolder the folder of the disk cache
      */
     @Test
-    void testLoadRectangularImage() throws IOException {
-        testScaling("it/unibo/towerdefense/utils/images/test2.jpg", RSIZE1, RSCALE1);
-        testScaling("it/unibo/towerdefense/utils/images/test2.jpg", RSIZE2, RSCALE2);
+    void testLoadRectangularImage(final @TempDir Path cacheFolder) throws IOException {
+        testScaling("it/unibo/towerdefense/utils/images/test2.jpg", RSIZE1, RSCALE1, cacheFolder);
+        testScaling("it/unibo/towerdefense/utils/images/test2.jpg", RSIZE2, RSCALE2, cacheFolder);
+    }
+
+    /**
+     * Tests the same sprite at the same size is shared between loaders,
+     * while a different size produces a different image.
+     * Once the memory cache is cleared, the sprite is read back from the disk cache.
+     * @param cacheFolder the folder of the disk cache
+     */
+    @Test
+    void testCache(final @TempDir Path cacheFolder) throws IOException {
+        final String name = "it/unibo/towerdefense/utils/images/test.png";
+        final String folder = cacheFolder.toString();
+        final BufferedImage first = new ImageLoader(SSIZE1, folder).loadImage(name, SSCALE1);
+        Assertions.assertSame(first, new ImageLoader(SSIZE1, folder).loadImage(name, SSCALE1));
+        Assertions.assertNotSame(first, new ImageLoader(SSIZE2, folder).loadImage(name, SSCALE1));
+        Assertions.assertNotSame(first, new ImageLoader(SSIZE1, folder).loadImage(name, SSCALE2));
+        ImageLoader.clearCache();
+        final BufferedImage stored = new ImageLoader(SSIZE1, folder).loadImage(name, SSCALE1);
+        Assertions.assertNotSame(first, stored);
+        Assertions.assertEquals(first.getWidth(), stored.getWidth());
+        Assertions.assertEquals(first.getHeight(), stored.getHeight());
+    }
+
+    /**
+     * Tests asynchronous requests share the result of synchronous ones,
+     * and failures are reported through the future.
+     * @param cacheFolder the folder of the disk cache
+     */
+    @Test
+    void testAsync(final @TempDir Path cacheFolder) throws IOException {
+        final String name = "it/unibo/towerdefense/utils/images/test.png";
+        final ImageLoader loader = new ImageLoader(SSIZE1, cacheFolder.toString());
+        final CompletableFuture<BufferedImage> future = loader.loadImageAsync(name, SSCALE1);
+        Assertions.assertSame(future, loader.loadImageAsync(name, SSCALE1));
+        Assertions.assertSame(future.join(), loader.loadImage(name, SSCALE1));
+        Assertions.assertThrows(CompletionException.class, () -> loader.loadImageAsync("nonexistent.png", 1.0).join());
     }
 }
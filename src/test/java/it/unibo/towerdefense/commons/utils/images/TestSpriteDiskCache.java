@@ -0,0 +1,87 @@
+package it.unibo.towerdefense.commons.utils.images;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Tests for SpriteDiskCache.
+ */
+@SuppressFBWarnings(
+    value = "UWF_FIELD_NOT_INITIALIZED_IN_CONSTRUCTOR",
+    justification = "Field is initialized in setUp method."
+)
+class TestSpriteDiskCache {
+
+    private static final int WIDTH = 3;
+    private static final int HEIGHT = 2;
+    private static final int TARGET_SIZE = 3;
+    private static final int PIXEL = 0x80FF2040;
+    private static final String NAME = "sprite.png";
+    private static final long LENGTH = 1024;
+    private static final long LAST_MODIFIED = 1_700_000_000_000L;
+
+    private Path folder;
+    private SpriteDiskCache cache;
+    private String hash;
+
+    /**
+     * Configuration step: this is performed BEFORE each test.
+     * @param tempDir the temporary directory
+     */
+    @BeforeEach
+    void setUp(final @TempDir Path tempDir) {
+        this.folder = tempDir.resolve("sprites");
+        this.cache = new SpriteDiskCache(this.folder.toString());
+        this.hash = SpriteDiskCache.key(NAME, LENGTH, LAST_MODIFIED);
+    }
+
+    /**
+     * Tests a stored sprite is loaded back with the same pixels.
+     */
+    @Test
+    void testStoreLoad() {
+        Assertions.assertTrue(this.cache.load(this.hash, TARGET_SIZE).isEmpty());
+        this.cache.store(this.hash, TARGET_SIZE, this.sprite());
+        final var loaded = this.cache.load(this.hash, TARGET_SIZE);
+        Assertions.assertTrue(loaded.isPresent());
+        Assertions.assertEquals(WIDTH, loaded.get().getWidth());
+        Assertions.assertEquals(HEIGHT, loaded.get().getHeight());
+        Assertions.assertEquals(PIXEL, loaded.get().getRGB(WIDTH - 1, HEIGHT - 1));
+        // a different size or version of the resource is not the same entry
+        Assertions.assertTrue(this.cache.load(this.hash, TARGET_SIZE + 1).isEmpty());
+        Assertions.assertTrue(this.cache.load(SpriteDiskCache.key(NAME, LENGTH + 1, LAST_MODIFIED), TARGET_SIZE).isEmpty());
+        Assertions.assertTrue(this.cache.load(SpriteDiskCache.key(NAME, LENGTH, LAST_MODIFIED + 1), TARGET_SIZE).isEmpty());
+    }
+
+    /**
+     * Tests a corrupted entry is discarded.
+     * @throws IOException if the entry cannot be corrupted
+     */
+    @Test
+    void testCorruptedEntry() throws IOException {
+        this.cache.store(this.hash, TARGET_SIZE, this.sprite());
+        try (Stream<Path> entries = Files.list(this.folder)) {
+            final Path entry = entries.findFirst().orElseThrow();
+            final byte[] content = Files.readAllBytes(entry);
+            content[content.length - 1] ^= 1;
+            Files.write(entry, content);
+        }
+        Assertions.assertTrue(this.cache.load(this.hash, TARGET_SIZE).isEmpty());
+    }
+
+    private BufferedImage sprite() {
+        final BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(WIDTH - 1, HEIGHT - 1, PIXEL);
+        return image;
+    }
+}
@@ -0,0 +1,46 @@
+package it.unibo.towerdefense.commons.utils.random;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for RandomStreamsImpl.
+ */
+class TestRandomStreamsImpl {
+
+    private static final long SEED = 42;
+    private static final String STREAM = "stream";
+    private static final String OTHER_STREAM = "other";
+    private static final int DRAWS = 10;
+
+    /**
+     * Test that the same seed always produces the same streams.
+     */
+    @Test
+    void testSameSeedSameStreams() {
+        final RandomStreams first = new RandomStreamsImpl(SEED);
+        final RandomStreams second = new RandomStreamsImpl(SEED);
+        Assertions.assertEquals(SEED, first.getSeed());
+        Assertions.assertArrayEquals(draw(first.stream(STREAM)), draw(second.stream(STREAM)));
+        Assertions.assertArrayEquals(draw(first.stream(STREAM, DRAWS)), draw(second.stream(STREAM, DRAWS)));
+    }
+
+    /**
+     * Test that different streams, sub-streams and seeds are independent.
+     */
+    @Test
+    void testIndependentStreams() {
+        final RandomStreams streams = new RandomStreamsImpl(SEED);
+        final long[] stream = draw(streams.stream(STREAM));
+        Assertions.assertFalse(Arrays.equals(stream, draw(streams.stream(OTHER_STREAM))));
+        Assertions.assertFalse(Arrays.equals(stream, draw(streams.stream(STREAM, 1))));
+        Assertions.assertFalse(Arrays.equals(stream, draw(new RandomStreamsImpl(SEED + 1).stream(STREAM))));
+    }
+
+    private static long[] draw(final Random random) {
+        return random.longs(DRAWS).toArray();
+    }
+}
@@ -2,6 +2,8 @@ package it.unibo.towerdefense.model.enemies;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.IntStream;
 
@@ -11,6 +13,7 @@ import org.junit.jupiter.api.Test;
 
 import it.unibo.towerdefense.commons.dtos.enemies.EnemyType;
 import it.unibo.towerdefense.commons.utils.file.FileUtils;
+import it.unibo.towerdefense.commons.utils.random.RandomStreamsImpl;
 
 /**
  * Tests for PredicateBasedRandomWaveGenerator.
@@ -20,6 +23,7 @@ class TestPredicateBasedRandomWaveGenerator {
     private static final String ROOT = "it/unibo/towerdefense/models/enemies/Test_";
     private static final int START = -5;
     private static final int END = 100;
+    private static final long SEED = 42;
     private PredicateBasedRandomWaveGenerator rwg;
     private WavePolicySupplierImpl wps;
 
@@ -43,6 +47,26 @@ class TestPredicateBasedRandomWaveGenerator {
         IntStream.range(START, END + 1).forEach(i -> testWave(i));
     }
 
+    /**
+     * Test that the same seed generates the same waves, in any order.
+     */
+    @Test
+    void testSameSeedSameWaves() throws IOException {
+        final EnemyCatalogue catalogue = new EnemyCatalogueFactory(
+                FileUtils.readResource(ROOT + "types.json")).compile();
+        final var first = new PredicateBasedRandomWaveGenerator(wps, catalogue, new RandomStreamsImpl(SEED));
+        final var second = new PredicateBasedRandomWaveGenerator(wps, catalogue, new RandomStreamsImpl(SEED));
+        // the second generator skips the first waves, as a loaded game does
+        IntStream.rangeClosed(1, END).forEach(first::apply);
+        Assertions.assertEquals(toList(first.apply(END)), toList(second.apply(END)));
+    }
+
+    private static List<Optional<RichEnemyType>> toList(final Wave wave) {
+        final List<Optional<RichEnemyType>> enemies = new ArrayList<>();
+        wave.forEachRemaining(enemies::add);
+        return enemies;
+    }
+
     /**
      * Tests the given wave.
      *
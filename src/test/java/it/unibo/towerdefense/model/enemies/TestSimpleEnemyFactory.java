@@ -14,6 +14,7 @@ import it.unibo.towerdefense.commons.patterns.Observer;
  * Tests for SimpleEnemyFactory.
  */
 class TestSimpleEnemyFactory {
+    private SimpleEnemyFactory tested;
     private RichEnemyType t;
     private RichEnemy created;
 
@@ -24,7 +25,7 @@ class TestSimpleEnemyFactory {
      */
     @BeforeEach
     void init() {
-        final SimpleEnemyFactory tested = new SimpleEnemyFactory();
+        tested = new SimpleEnemyFactory();
         final int val = 100;
         t = TestingEnemyType.build(EnemyLevel.I, EnemyArchetype.A, val, val, val * val, val * val);
         created = tested.spawn(t, STARTING_POSITION);
@@ -43,6 +44,18 @@ class TestSimpleEnemyFactory {
         Assertions.assertEquals(t.type(), created.info().type().type());
     }
 
+    /**
+     * Tests each enemy keeps its own identifier, also while it moves.
+     */
+    @Test
+    void testId() {
+        final RichEnemy other = tested.spawn(t, STARTING_POSITION);
+        final var id = created.info().id();
+        created.move(new EnemyPosition(10, 0, Direction.E, 100));
+        Assertions.assertEquals(id, created.info().id());
+        Assertions.assertNotEquals(created.info().id(), other.info().id());
+    }
+
     /**
      * Tests the enemy moves correctly.
      */
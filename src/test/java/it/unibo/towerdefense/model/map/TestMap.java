@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import it.unibo.towerdefense.commons.engine.LogicalPosition;
 import it.unibo.towerdefense.commons.engine.Size;
 import it.unibo.towerdefense.commons.engine.SizeImpl;
+import it.unibo.towerdefense.commons.utils.random.RandomStreamsImpl;
 
 /**
  * Map tester with "generate" path.
@@ -13,6 +14,7 @@ import it.unibo.towerdefense.commons.engine.SizeImpl;
 class TestMap {
     private static final Size TEST_SIZE = new SizeImpl(20, 20);
     private static final int ITERATION_MOVEMENT = 36;
+    private static final long SEED = 42;
     private final MapManager map = new MapManagerImpl(TEST_SIZE);
     private final PathVector spawn = map.getSpawnPosition();
     private LogicalPosition pos = spawn.position();
@@ -24,6 +26,14 @@ class TestMap {
         Assertions.assertEquals(spawn,  new MapManagerImpl(jsondata).getSpawnPosition());
     }
 
+    @Test
+    void testSameSeedSameMap() {
+        Assertions.assertEquals(
+            new GameMapImpl(TEST_SIZE, new RandomStreamsImpl(SEED)).toJSON(),
+            new GameMapImpl(TEST_SIZE, new RandomStreamsImpl(SEED)).toJSON()
+        );
+    }
+
     @Test
     void testGetNextPosition() {
         try {
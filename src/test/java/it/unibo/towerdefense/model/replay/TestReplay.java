@@ -0,0 +1,116 @@
+package it.unibo.towerdefense.model.replay;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import it.unibo.towerdefense.commons.dtos.game.ControlAction;
+import it.unibo.towerdefense.commons.dtos.game.GameDTO;
+import it.unibo.towerdefense.commons.engine.Position;
+import it.unibo.towerdefense.commons.engine.Size;
+import it.unibo.towerdefense.model.game.GameStatus;
+
+/**
+ * Test class for the replays and their headless player.
+ */
+class TestReplay {
+    private static final String TEST_PLAYER_NAME = "TEST";
+    private static final Size MAP_SIZE = Size.of(20, 20);
+    private static final long SEED = 42;
+    private static final long TICKS = 2000;
+    private static final long PAUSE_TICK = 100;
+    private static final long RESUME_TICK = 150;
+
+    private Replay createReplay() {
+        final Replay replay = new ReplayImpl(TEST_PLAYER_NAME, MAP_SIZE, SEED);
+        replay.record(ReplayCommand.cellSelection(1, Position.of(3, 4)));
+        replay.record(ReplayCommand.defenseBuild(2, 0));
+        replay.record(ReplayCommand.control(PAUSE_TICK, ControlAction.PAUSE));
+        replay.record(ReplayCommand.control(RESUME_TICK, ControlAction.RESUME));
+        replay.end(TICKS);
+        return replay;
+    }
+
+    /**
+     * Test that a replay is read back from its log.
+     * @param tempDir the temporary directory
+     * @throws IOException if the replay cannot be written or read
+     */
+    @Test
+    void testLog(final @TempDir Path tempDir) throws IOException {
+        final Replay replay = this.createReplay();
+        final String filePath = tempDir.resolve("test.replay").toString();
+        replay.write(filePath);
+        final Replay read = Replay.read(filePath);
+        Assertions.assertEquals(TEST_PLAYER_NAME, read.getPlayerName());
+        Assertions.assertEquals(MAP_SIZE.getWidth(), read.getMapSize().getWidth());
+        Assertions.assertEquals(MAP_SIZE.getHeight(), read.getMapSize().getHeight());
+        Assertions.assertEquals(SEED, read.getSeed());
+        Assertions.assertEquals(TICKS, read.getTicks());
+        Assertions.assertEquals(replay.getCommands(), read.getCommands());
+        Assertions.assertEquals(replay.toLog(), read.toLog());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Replay.fromLog("not a replay"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ReplayCommand.fromLog("1 X"));
+    }
+
+    /**
+     * Test that playing a replay always reproduces the same game.
+     */
+    @Test
+    void testPlay() {
+        final Replay replay = this.createReplay();
+        final ReplayResult first = ReplayPlayer.play(replay);
+        final ReplayResult second = ReplayPlayer.play(Replay.fromLog(replay.toLog()));
+        Assertions.assertEquals(first.game(), second.game());
+        Assertions.assertEquals(first.ticks(), second.ticks());
+        Assertions.assertEquals(SEED, first.game().getSeed());
+        Assertions.assertTrue(first.ticks() <= TICKS);
+    }
+
+    /**
+     * Test that the game is not updated while paused: a game paused and resumed
+     * reaches the same state as a game never paused, running the same updates.
+     */
+    @Test
+    void testPause() {
+        final long pauseTicks = RESUME_TICK - PAUSE_TICK;
+        final Replay paused = this.createReplay();
+        paused.record(ReplayCommand.cellSelection(RESUME_TICK + 1, Position.of(5, 6)));
+        paused.record(ReplayCommand.defenseBuild(RESUME_TICK + 2, 0));
+        final Replay straight = new ReplayImpl(TEST_PLAYER_NAME, MAP_SIZE, SEED);
+        straight.record(ReplayCommand.cellSelection(1, Position.of(3, 4)));
+        straight.record(ReplayCommand.defenseBuild(2, 0));
+        straight.record(ReplayCommand.cellSelection(PAUSE_TICK + 1, Position.of(5, 6)));
+        straight.record(ReplayCommand.defenseBuild(PAUSE_TICK + 2, 0));
+        straight.end(TICKS - pauseTicks);
+        final ReplayResult pausedResult = ReplayPlayer.play(paused);
+        final ReplayResult straightResult = ReplayPlayer.play(straight);
+        Assertions.assertEquals(straightResult.game(), pausedResult.game());
+        Assertions.assertEquals(straightResult.ticks() + pauseTicks, pausedResult.ticks());
+    }
+
+    /**
+     * Test that a game paused and never resumed keeps the state it had when paused.
+     */
+    @Test
+    void testPauseUntilEnd() {
+        final Replay paused = new ReplayImpl(TEST_PLAYER_NAME, MAP_SIZE, SEED);
+        paused.record(ReplayCommand.cellSelection(1, Position.of(3, 4)));
+        paused.record(ReplayCommand.defenseBuild(2, 0));
+        paused.record(ReplayCommand.control(PAUSE_TICK, ControlAction.PAUSE));
+        paused.end(TICKS);
+        final Replay stopped = new ReplayImpl(TEST_PLAYER_NAME, MAP_SIZE, SEED);
+        stopped.record(ReplayCommand.cellSelection(1, Position.of(3, 4)));
+        stopped.record(ReplayCommand.defenseBuild(2, 0));
+        stopped.end(PAUSE_TICK);
+        final GameDTO pausedGame = ReplayPlayer.play(paused).game();
+        final GameDTO stoppedGame = ReplayPlayer.play(stopped).game();
+        Assertions.assertEquals(GameStatus.PAUSE, pausedGame.getStatus());
+        Assertions.assertEquals(stoppedGame.getWave(), pausedGame.getWave());
+        Assertions.assertEquals(stoppedGame.getLives(), pausedGame.getLives());
+        Assertions.assertEquals(stoppedGame.getMoney(), pausedGame.getMoney());
+    }
+}
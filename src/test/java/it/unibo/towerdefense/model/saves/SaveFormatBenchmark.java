@@ -0,0 +1,85 @@
+package it.unibo.towerdefense.model.saves;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import it.unibo.towerdefense.commons.dtos.game.GameDTOImpl;
+import it.unibo.towerdefense.commons.engine.SizeImpl;
+import it.unibo.towerdefense.model.map.GameMapImpl;
+
+/**
+ * Benchmark comparing the size and the loading time of the JSON and binary save formats.
+ * Listing reads every save of the folder, loading also parses the map and defenses
+ * of each save, as done when a game is resumed.
+ *
+ * Run it with the saveFormatBenchmark gradle task.
+ */
+public final class SaveFormatBenchmark {
+
+    private static final int MAP_SIDE = 100;
+    private static final int SAVES = 20;
+    private static final int WARMUP_RUNS = 5;
+    private static final int RUNS = 20;
+    private static final double NANOS_IN_MILLI = 1_000_000.0;
+    private static final String PLAYER = "benchmark";
+
+    private SaveFormatBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark and prints the size of a save and the average times in milliseconds.
+     * @param args ignored
+     * @throws IOException if the saves cannot be written
+     */
+    public static void main(final String[] args) throws IOException {
+        final Save save = new SaveImpl(Map.of(
+            SaveFieldsEnum.GAME, new GameDTOImpl(PLAYER).toJSON(),
+            SaveFieldsEnum.MAP, new GameMapImpl(new SizeImpl(MAP_SIDE, MAP_SIDE)).toJSON(),
+            SaveFieldsEnum.DEFENSES, "[]"
+        ));
+        System.out.println("format\tbytes\tlist ms\tload ms");
+        for (final SaveFormat format : SaveFormat.values()) {
+            final Path folder = Files.createTempDirectory("saves");
+            final Saves saves = new SavesImpl(PLAYER, folder.toString(), format);
+            for (int i = 0; i < SAVES; i++) {
+                saves.writeSave(new SaveImpl(
+                    Map.of(
+                        SaveFieldsEnum.GAME, save.getGameJson(),
+                        SaveFieldsEnum.MAP, save.getMapJson(),
+                        SaveFieldsEnum.DEFENSES, save.getDefensesJson()
+                    ),
+                    new Date(save.getDate().getTime() + i)
+                ));
+            }
+            final long size = Files.size(folder.resolve(PLAYER).resolve(save.getFileName(format)));
+            System.out.printf(Locale.ROOT, "%s\t%d\t%.3f\t%.3f%n",
+                format, size, time(saves, false), time(saves, true));
+            try (Stream<Path> files = Files.walk(folder)) {
+                files.sorted((a, b) -> b.compareTo(a)).forEach(f -> f.toFile().delete());
+            }
+        }
+    }
+
+    private static double time(final Saves saves, final boolean parse) {
+        long total = 0;
+        for (int r = 0; r < WARMUP_RUNS + RUNS; r++) {
+            final long start = System.nanoTime();
+            for (final Save loaded : saves.loadSaves()) {
+                if (parse) {
+                    // as the game does when it loads a save
+                    loaded.getMap();
+                    loaded.getDefenses();
+                }
+            }
+            if (r >= WARMUP_RUNS) {
+                total += System.nanoTime() - start;
+            }
+        }
+        return total / NANOS_IN_MILLI / RUNS;
+    }
+}
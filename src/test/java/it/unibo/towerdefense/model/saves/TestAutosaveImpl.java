@@ -0,0 +1,133 @@
+package it.unibo.towerdefense.model.saves;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.unibo.towerdefense.commons.dtos.game.GameDTO;
+import it.unibo.towerdefense.commons.dtos.game.GameDTOImpl;
+import it.unibo.towerdefense.commons.utils.file.FileUtils;
+import it.unibo.towerdefense.model.game.GameStatus;
+import it.unibo.towerdefense.model.map.GameMapImpl;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+
+import org.json.JSONArray;
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * Test class for the AutosaveImpl class.
+ */
+@SuppressFBWarnings(
+    value = "UWF_FIELD_NOT_INITIALIZED_IN_CONSTRUCTOR",
+    justification = "Fields are initialized in setUp method."
+)
+class TestAutosaveImpl {
+    private static final String TEST_PLAYER_NAME = "TEST";
+    private static final String SAVING_FILE =
+        "it/unibo/towerdefense/models/saves/test-save.json";
+    private static final int INTERVAL = 2;
+    private static final int COMPACTION = 2;
+    private static final int HISTORY = 3;
+    private static final int LIVES = 10;
+    private static final int MONEY = 100;
+    private static final int LAST_WAVE = 20;
+
+    private Autosave autosave;
+    private Path folder;
+    private Save save;
+
+    /**
+     * Configuration step: this is performed BEFORE each test.
+     * @param tempDir the temporary directory
+     * @throws IOException if the folder cannot be created
+     * @throws URISyntaxException if the SAVING_FILE path is not correct
+     */
+    @BeforeEach
+    void setUp(final @TempDir() Path tempDir) throws IOException, URISyntaxException {
+        this.autosave = new AutosaveImpl(
+            TEST_PLAYER_NAME,
+            tempDir.toAbsolutePath().toString(),
+            INTERVAL,
+            COMPACTION,
+            HISTORY
+        );
+        this.folder = tempDir.resolve(TEST_PLAYER_NAME);
+        this.save = Save.fromJson(FileUtils.readFile(
+            Paths.get(ClassLoader.getSystemResource(SAVING_FILE).toURI())
+        ));
+    }
+
+    /**
+     * Test that nothing is saved on waves between two autosaves.
+     */
+    @Test
+    void testNotDue() {
+        Assertions.assertFalse(this.autosave(1, this.save.getDefensesJson()));
+        Assertions.assertTrue(this.autosave.loadLatest().isEmpty());
+    }
+
+    /**
+     * Test that the latest autosave is restored from a snapshot and the following deltas.
+     */
+    @Test
+    void testLoadLatest() {
+        final int defenses = new JSONArray(this.save.getDefensesJson()).length();
+        // full snapshot, then a delta removing all the defenses
+        Assertions.assertTrue(this.autosave(2, this.save.getDefensesJson()));
+        Assertions.assertTrue(this.autosave(4, "[]"));
+        Save latest = this.autosave.loadLatest().orElseThrow();
+        Assertions.assertEquals(4, GameDTO.fromJson(latest.getGameJson()).getWave());
+        Assertions.assertEquals(0, new JSONArray(latest.getDefensesJson()).length());
+        Assertions.assertEquals(
+            GameMapImpl.fromJson(this.save.getMapJson()).toJSON(),
+            GameMapImpl.fromJson(latest.getMapJson()).toJSON()
+        );
+        // a delta adding them back
+        Assertions.assertTrue(this.autosave(6, this.save.getDefensesJson()));
+        latest = this.autosave.loadLatest().orElseThrow();
+        Assertions.assertEquals(6, GameDTO.fromJson(latest.getGameJson()).getWave());
+        Assertions.assertEquals(defenses, new JSONArray(latest.getDefensesJson()).length());
+    }
+
+    /**
+     * Test that only the most recent autosaves are kept.
+     * @throws IOException if the autosaves folder cannot be listed
+     */
+    @Test
+    void testBoundedHistory() throws IOException {
+        for (int wave = INTERVAL; wave <= LAST_WAVE; wave += INTERVAL) {
+            Assertions.assertTrue(this.autosave(wave, this.save.getDefensesJson()));
+        }
+        try (Stream<Path> files = Files.list(this.folder)) {
+            Assertions.assertTrue(files.count() <= HISTORY + COMPACTION);
+        }
+        final Save latest = this.autosave.loadLatest().orElseThrow();
+        Assertions.assertEquals(LAST_WAVE, GameDTO.fromJson(latest.getGameJson()).getWave());
+    }
+
+    /**
+     * Test that cleared autosaves can't be restored.
+     */
+    @Test
+    void testClear() {
+        Assertions.assertTrue(this.autosave(2, this.save.getDefensesJson()));
+        this.autosave.clear().join();
+        Assertions.assertTrue(this.autosave.loadLatest().isEmpty());
+    }
+
+    private boolean autosave(final int wave, final String defenses) {
+        return this.autosave.onWave(
+            wave,
+            () -> new GameDTOImpl(TEST_PLAYER_NAME, LIVES, MONEY, wave, GameStatus.PLAYING).toJSON(),
+            () -> defenses,
+            this.save::getMapJson
+        ).join();
+    }
+}
@@ -5,12 +5,22 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.io.TempDir;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.unibo.towerdefense.commons.api.PagedSource;
+import it.unibo.towerdefense.commons.dtos.game.GameDTO;
 import it.unibo.towerdefense.commons.utils.file.FileUtils;
+import it.unibo.towerdefense.model.defenses.Defense;
+import it.unibo.towerdefense.model.map.GameMapImpl;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.json.JSONArray;
 
 import org.junit.jupiter.api.Assertions;
 
@@ -29,6 +39,8 @@ class TestSavesImpl {
         RESOURCES_ROOT + "test-save.json";
 
     private Saves saves;
+    private Saves binarySaves;
+    private Path playerFolder;
     private String saveJson;
 
     /**
@@ -45,6 +57,12 @@ class TestSavesImpl {
             tempDir.toAbsolutePath().toString()
         );
         Assertions.assertNotNull(this.saves);
+        this.binarySaves = new SavesImpl(
+            TEST_PLAYER_NAME,
+            tempDir.toAbsolutePath().toString(),
+            SaveFormat.BINARY
+        );
+        this.playerFolder = tempDir.resolve(TEST_PLAYER_NAME);
         // load the save json from the file
         this.saveJson = FileUtils.readFile(
             Paths.get(
@@ -79,6 +97,122 @@ class TestSavesImpl {
         Assertions.assertTrue(saves.contains(save));
     }
 
+    /**
+     * Test the writing and load of a save in the binary format.
+     */
+    @Test
+    void testWriteLoadBinarySave() {
+        final Save save = this.loadSaveFromFile();
+        Assertions.assertTrue(this.binarySaves.writeSave(save));
+        Assertions.assertTrue(Files.exists(this.playerFolder.resolve(save.getFileName(SaveFormat.BINARY))));
+        // both formats are detected when loading
+        final List<Save> saves = this.saves.loadSaves();
+        Assertions.assertEquals(1, saves.size());
+        final Save loaded = saves.get(0);
+        Assertions.assertEquals(save.getDate(), loaded.getDate());
+        Assertions.assertEquals(
+            GameDTO.fromJson(save.getGameJson()),
+            GameDTO.fromJson(loaded.getGameJson())
+        );
+        Assertions.assertEquals(
+            GameMapImpl.fromJson(save.getMapJson()).toJSON(),
+            GameMapImpl.fromJson(loaded.getMapJson()).toJSON()
+        );
+        // the map and the defenses are also decoded without their json representation
+        Assertions.assertEquals(
+            GameMapImpl.fromJson(save.getMapJson()).toJSON(),
+            loaded.getMap().toJSON()
+        );
+        Assertions.assertEquals(save.getDefenses().size(), loaded.getDefenses().size());
+        final JSONArray defenses = new JSONArray(save.getDefensesJson());
+        final JSONArray loadedDefenses = new JSONArray(loaded.getDefensesJson());
+        Assertions.assertEquals(defenses.length(), loadedDefenses.length());
+        for (int i = 0; i < defenses.length(); i++) {
+            final Defense defense = Defense.fromJson(defenses.get(i).toString());
+            final Defense loadedDefense = Defense.fromJson(loadedDefenses.get(i).toString());
+            Assertions.assertEquals(defense.getType(), loadedDefense.getType());
+            Assertions.assertEquals(defense.getLevel(), loadedDefense.getLevel());
+            Assertions.assertEquals(defense.getDamage(), loadedDefense.getDamage());
+            Assertions.assertEquals(defense.getPosition(), loadedDefense.getPosition());
+            Assertions.assertEquals(defense.getPossibleUpgrades().size(), loadedDefense.getPossibleUpgrades().size());
+        }
+    }
+
+    /**
+     * Test the writing and load of a save in the compressed JSON format.
+     * @throws IOException if the save file cannot be read
+     */
+    @Test
+    void testWriteLoadCompressedSave() throws IOException {
+        final Save save = this.loadSaveFromFile();
+        final Saves compressedSaves = new SavesImpl(
+            TEST_PLAYER_NAME,
+            this.playerFolder.getParent().toString(),
+            SaveFormat.COMPRESSED_JSON
+        );
+        Assertions.assertTrue(compressedSaves.writeSave(save));
+        final Path file = this.playerFolder.resolve(save.getFileName(SaveFormat.COMPRESSED_JSON));
+        Assertions.assertTrue(Files.size(file) < save.toJSON().length());
+        // the compressed file is detected by the JSON saves too
+        final List<Save> saves = this.saves.loadSaves();
+        Assertions.assertEquals(List.of(save), saves);
+        Assertions.assertEquals(save.getMapJson(), saves.get(0).getMapJson());
+        Assertions.assertEquals(save.getDefensesJson(), saves.get(0).getDefensesJson());
+    }
+
+    /**
+     * Test that saves are listed a page at a time, ordered by date.
+     */
+    @Test
+    void testListSaves() {
+        final Save save = this.loadSaveFromFile();
+        final Save later = new SaveImpl(
+            Map.of(
+                SaveFieldsEnum.GAME, save.getGameJson(),
+                SaveFieldsEnum.MAP, save.getMapJson(),
+                SaveFieldsEnum.DEFENSES, save.getDefensesJson()
+            ),
+            new Date(save.getDate().getTime() + 1)
+        );
+        Assertions.assertTrue(this.saves.writeSave(later));
+        Assertions.assertTrue(this.saves.writeSave(save));
+        final PagedSource<Save> listed = this.saves.listSaves();
+        Assertions.assertEquals(2, listed.size());
+        Assertions.assertEquals(List.of(later), listed.getPage(1, 2));
+        Assertions.assertEquals(List.of(save, later), listed.getPage(0, 2));
+    }
+
+    /**
+     * Test that a JSON save written again in the binary format replaces the JSON file.
+     */
+    @Test
+    void testRewriteSaveInOtherFormat() {
+        final Save save = this.loadSaveFromFile();
+        Assertions.assertTrue(this.saves.writeSave(save));
+        Assertions.assertTrue(this.binarySaves.writeSave(save));
+        Assertions.assertFalse(Files.exists(this.playerFolder.resolve(save.getFileName(SaveFormat.JSON))));
+        Assertions.assertEquals(1, this.binarySaves.loadSaves().size());
+    }
+
+    /**
+     * Test that saves are listed from the manifest, without reading their bodies.
+     * @throws IOException if the save file cannot be overwritten
+     */
+    @Test
+    void testListFromManifest() throws IOException {
+        final Save save = this.loadSaveFromFile();
+        Assertions.assertTrue(this.saves.writeSave(save));
+        Assertions.assertTrue(Files.exists(this.playerFolder.resolve(SavesManifest.FILE_NAME)));
+        // the body is not needed to list the save
+        Files.writeString(this.playerFolder.resolve(save.getFileName()), "corrupted");
+        final List<Save> saves = this.saves.loadSaves();
+        Assertions.assertEquals(1, saves.size());
+        Assertions.assertEquals(save.getDate(), saves.get(0).getDate());
+        Assertions.assertEquals(save.getGameJson(), saves.get(0).getGameJson());
+        // it is parsed only when the save is picked
+        Assertions.assertThrows(RuntimeException.class, () -> saves.get(0).getMapJson());
+    }
+
     private Save loadSaveFromFile() {
         // create a new save from the JSON string
         return Save.fromJson(saveJson);
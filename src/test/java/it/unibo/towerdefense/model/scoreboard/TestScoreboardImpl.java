@@ -5,6 +5,11 @@ import org.junit.jupiter.api.BeforeEach;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
 
 import org.junit.jupiter.api.Assertions;
 
@@ -21,6 +26,8 @@ class TestScoreboardImpl {
     private static final String NAME_3 = "test3";
     private static final int WAVE_3 = 99;
     private static final String INVALID_JSON = "invalid json";
+    private static final String LEGACY_JSON = "[{\"name\":\"test\",\"wave\":100}]";
+    private static final String TORN_RECORD = "{\"name\":\"te";
 
     private String filePath;
     private Scoreboard scoreboard;
@@ -96,4 +103,133 @@ class TestScoreboardImpl {
             () -> this.scoreboard.saveScore(NAME_1, WAVE_1)
         );
     }
+
+    /**
+     * Check that saving a score appends a single record to the log.
+     * @throws IOException if the file cannot be read
+     */
+    @Test
+    void testAppendOnly() throws IOException {
+        this.scoreboard.saveScore(NAME_1, WAVE_1);
+        final var before = FileUtils.readFile(this.filePath);
+        this.scoreboard.saveScore(NAME_2, WAVE_2);
+        final var after = FileUtils.readFile(this.filePath);
+        Assertions.assertTrue(after.startsWith(before));
+        Assertions.assertEquals(
+            new ScoreImpl(NAME_2, WAVE_2).toJSON() + "\n",
+            after.substring(before.length())
+        );
+    }
+
+    /**
+     * Check that the loaded scores are kept up to date with the scores
+     * saved by other instances, reading only the new records.
+     * @throws IOException if the file cannot be read
+     */
+    @Test
+    void testOtherInstances() throws IOException {
+        final Scoreboard other = new ScoreboardImpl(this.filePath);
+        this.scoreboard.saveScore(NAME_1, WAVE_1);
+        this.scoreboard.loadScores();
+        other.saveScore(NAME_2, WAVE_2);
+        this.scoreboard.saveScore(NAME_3, WAVE_3);
+        Assertions.assertEquals(
+            List.of(
+                new ScoreImpl(NAME_1, WAVE_1),
+                new ScoreImpl(NAME_2, WAVE_2),
+                new ScoreImpl(NAME_3, WAVE_3)
+            ),
+            this.scoreboard.getScoreboard()
+        );
+    }
+
+    /**
+     * Check that the JSON scoreboard of older versions is converted to a log.
+     * @throws IOException if the file cannot be read
+     */
+    @Test
+    void testLegacyScoreboard() throws IOException {
+        FileUtils.writeFile(this.filePath, LEGACY_JSON);
+        this.scoreboard.saveScore(NAME_2, WAVE_2);
+        this.scoreboard.loadScores();
+        Assertions.assertEquals(
+            List.of(new ScoreImpl(NAME_1, WAVE_1), new ScoreImpl(NAME_2, WAVE_2)),
+            this.scoreboard.getScoreboard()
+        );
+        Assertions.assertFalse(FileUtils.readFile(this.filePath).startsWith("["));
+    }
+
+    /**
+     * Check that a record left half written by a crash is skipped.
+     * @throws IOException if the file cannot be read
+     */
+    @Test
+    void testTornRecord() throws IOException {
+        this.scoreboard.saveScore(NAME_1, WAVE_1);
+        Files.write(
+            Paths.get(this.filePath),
+            TORN_RECORD.getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.APPEND
+        );
+        this.scoreboard.saveScore(NAME_2, WAVE_2);
+        final Scoreboard other = new ScoreboardImpl(this.filePath);
+        other.loadScores();
+        Assertions.assertEquals(
+            List.of(new ScoreImpl(NAME_1, WAVE_1), new ScoreImpl(NAME_2, WAVE_2)),
+            other.getScoreboard()
+        );
+    }
+
+    /**
+     * Check the top scores, the paging and the rank lookup.
+     * @throws IOException if the file cannot be read
+     */
+    @Test
+    void testRankedQueries() throws IOException {
+        this.scoreboard.saveScore(NAME_1, WAVE_1);
+        this.scoreboard.saveScore(NAME_3, WAVE_3);
+        this.scoreboard.loadScores();
+        this.scoreboard.saveScore(NAME_2, WAVE_2);
+        this.scoreboard.saveScore(NAME_3, WAVE_1);
+        Assertions.assertEquals(4, this.scoreboard.getScoresCount());
+        // scores reaching the same wave are ranked in the order they were saved in
+        Assertions.assertEquals(
+            List.of(
+                new ScoreImpl(NAME_2, WAVE_2),
+                new ScoreImpl(NAME_1, WAVE_1),
+                new ScoreImpl(NAME_3, WAVE_1)
+            ),
+            this.scoreboard.getTopScores(3)
+        );
+        Assertions.assertEquals(
+            List.of(new ScoreImpl(NAME_3, WAVE_1), new ScoreImpl(NAME_3, WAVE_3)),
+            this.scoreboard.getRankedScores(2, 10)
+        );
+        Assertions.assertTrue(this.scoreboard.getRankedScores(10, 10).isEmpty());
+        Assertions.assertEquals(1, this.scoreboard.getRank(WAVE_2));
+        Assertions.assertEquals(2, this.scoreboard.getRank(WAVE_1));
+        Assertions.assertEquals(4, this.scoreboard.getRank(WAVE_3));
+        Assertions.assertEquals(5, this.scoreboard.getRank(0));
+    }
+
+    /**
+     * Check that only the best score of each player is listed.
+     * @throws IOException if the file cannot be read
+     */
+    @Test
+    void testBestScoresPerPlayer() throws IOException {
+        this.scoreboard.saveScore(NAME_3, WAVE_3);
+        this.scoreboard.saveScore(NAME_1, WAVE_1);
+        this.scoreboard.loadScores();
+        this.scoreboard.saveScore(NAME_3, WAVE_2);
+        this.scoreboard.saveScore(NAME_1, WAVE_3);
+        Assertions.assertEquals(
+            List.of(new ScoreImpl(NAME_3, WAVE_2), new ScoreImpl(NAME_1, WAVE_1)),
+            this.scoreboard.getBestScoresPerPlayer(0, 10)
+        );
+        Assertions.assertEquals(
+            List.of(new ScoreImpl(NAME_1, WAVE_1)),
+            this.scoreboard.getBestScoresPerPlayer(1, 1)
+        );
+    }
 }
@@ -0,0 +1,103 @@
+package it.unibo.towerdefense.view.graphics;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import it.unibo.towerdefense.commons.Constants;
+import it.unibo.towerdefense.commons.engine.LogicalPosition;
+import it.unibo.towerdefense.commons.engine.Size;
+import it.unibo.towerdefense.commons.utils.images.ImageLoader;
+
+/**
+ * Benchmark comparing the frame time of each render scale at each resolution.
+ * Each frame moves every sprite, composes the world at the render scale and
+ * upscales it to a canvas of the size used by the game window.
+ *
+ * Run it with the renderScaleBenchmark gradle task.
+ */
+public final class RenderScaleBenchmark {
+
+    private static final int SPRITES = 500;
+    private static final int WARMUP_FRAMES = 60;
+    private static final int FRAMES = 240;
+    private static final double NANOS_IN_MILLI = 1_000_000.0;
+    private static final long SEED = 42;
+    private static final int PERCENT = 100;
+
+    private RenderScaleBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark and prints the average frame time in milliseconds.
+     * @param args ignored
+     */
+    public static void main(final String[] args) {
+        final Size mapSize = Constants.MAP_SIZE;
+        System.out.print("resolution");
+        Constants.RENDER_SCALES.forEach(scale -> System.out.print("\t" + Math.round(scale * PERCENT) + "%"));
+        System.out.println();
+        for (final Size resolution : Constants.RESOLUTIONS) {
+            // the canvas of the window is a square as high as the window
+            final int side = resolution.getHeight();
+            System.out.print(resolution);
+            for (final double scale : Constants.RENDER_SCALES) {
+                System.out.printf(Locale.ROOT, "\t%.3f", frameTime(side, scale, mapSize));
+            }
+            System.out.println();
+        }
+    }
+
+    private static double frameTime(final int side, final double scale, final Size mapSize) {
+        final Size renderSize = Size.of((int) Math.round(side * scale), (int) Math.round(side * scale));
+        final PixelTransform transform = PixelTransform.of(renderSize, mapSize);
+        final int cell = renderSize.getWidth() / mapSize.getWidth();
+        final int logicalWidth = mapSize.getWidth() * LogicalPosition.SCALING_FACTOR;
+        final int logicalHeight = mapSize.getHeight() * LogicalPosition.SCALING_FACTOR;
+        // the background and the sprites drawn above it
+        final List<Drawable> frame = new ArrayList<>();
+        frame.add(new ImageDrawable(
+            filled(renderSize.getWidth(), renderSize.getHeight(), Transparency.OPAQUE, Color.GREEN),
+            new LogicalPosition(logicalWidth / 2, logicalHeight / 2)
+        ));
+        final BufferedImage sprite = filled(cell, cell, Transparency.TRANSLUCENT, Color.RED);
+        final List<ImageDrawable> sprites = new ArrayList<>();
+        for (int i = 0; i < SPRITES; i++) {
+            final ImageDrawable drawable = new ImageDrawable();
+            sprites.add(drawable);
+            frame.add(drawable);
+        }
+        final FrameComposer composer = new FrameComposer(Color.BLACK);
+        final BufferedImage canvas = ImageLoader.createCompatibleImage(side, side, Transparency.OPAQUE);
+        final Random random = new Random(SEED);
+        long total = 0;
+        for (int f = 0; f < WARMUP_FRAMES + FRAMES; f++) {
+            final long start = System.nanoTime();
+            for (final ImageDrawable drawable : sprites) {
+                drawable.update(sprite, new LogicalPosition(random.nextInt(logicalWidth), random.nextInt(logicalHeight)));
+            }
+            composer.compose(frame, renderSize, transform);
+            final Graphics2D g2d = canvas.createGraphics();
+            composer.drawTo(g2d, side, side, Interpolation.BILINEAR);
+            g2d.dispose();
+            if (f >= WARMUP_FRAMES) {
+                total += System.nanoTime() - start;
+            }
+        }
+        return total / NANOS_IN_MILLI / FRAMES;
+    }
+
+    private static BufferedImage filled(final int width, final int height, final int transparency, final Color color) {
+        final BufferedImage image = ImageLoader.createCompatibleImage(width, height, transparency);
+        final Graphics2D g2d = image.createGraphics();
+        g2d.setColor(color);
+        g2d.fillRect(0, 0, width, height);
+        g2d.dispose();
+        return image;
+    }
+}
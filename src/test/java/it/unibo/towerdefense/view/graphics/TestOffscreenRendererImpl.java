@@ -0,0 +1,96 @@
+package it.unibo.towerdefense.view.graphics;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import it.unibo.towerdefense.commons.engine.LogicalPosition;
+import it.unibo.towerdefense.commons.engine.Size;
+
+/**
+ * Tests for OffscreenRendererImpl.
+ */
+class TestOffscreenRendererImpl {
+
+    private static final Size MAP_SIZE = Size.of(2, 2);
+    private static final Size RENDER_SIZE = Size.of(20, 20);
+    private static final int CELL = 10;
+    private static final int FRAMES = 7;
+    private static final int INTERVAL = 3;
+
+    /**
+     * Tests drawables are drawn on the frame at their logical position.
+     */
+    @Test
+    void testRender() {
+        try (OffscreenRendererImpl renderer = new OffscreenRendererImpl(MAP_SIZE, RENDER_SIZE)) {
+            Assertions.assertEquals(RENDER_SIZE.getWidth(), renderer.getRenderSize().getWidth());
+            Assertions.assertEquals(RENDER_SIZE.getHeight(), renderer.getRenderSize().getHeight());
+            renderer.submitToCanvas(this.square(LogicalPosition.SCALING_FACTOR / 2));
+            renderer.renderCanvas();
+            final BufferedImage frame = renderer.getFrame();
+            Assertions.assertEquals(Color.RED.getRGB(), frame.getRGB(CELL / 2, CELL / 2));
+            Assertions.assertEquals(Color.BLACK.getRGB(), frame.getRGB(CELL + CELL / 2, CELL / 2));
+            // the queue starts empty at every frame
+            renderer.renderCanvas();
+            Assertions.assertEquals(Color.BLACK.getRGB(), renderer.getFrame().getRGB(CELL / 2, CELL / 2));
+            Assertions.assertEquals(2, renderer.getFrameCount());
+        }
+    }
+
+    /**
+     * Tests every Nth frame is saved as a PNG file.
+     * @param tempDir the temporary directory
+     * @throws IOException if frames can't be listed or read
+     */
+    @Test
+    void testFrameSequence(final @TempDir Path tempDir) throws IOException {
+        final Path folder = tempDir.resolve("frames");
+        try (OffscreenRendererImpl renderer = new OffscreenRendererImpl(MAP_SIZE, RENDER_SIZE, folder, INTERVAL)) {
+            for (int i = 0; i < FRAMES; i++) {
+                renderer.submitToCanvas(this.square(LogicalPosition.SCALING_FACTOR / 2));
+                renderer.renderCanvas();
+            }
+        }
+        final List<String> names;
+        try (Stream<Path> files = Files.list(folder)) {
+            names = files.map(p -> p.getFileName().toString()).sorted().toList();
+        }
+        Assertions.assertEquals(List.of("frame-000003.png", "frame-000006.png"), names);
+        final BufferedImage saved = ImageIO.read(folder.resolve(names.get(0)).toFile());
+        Assertions.assertEquals(RENDER_SIZE.getWidth(), saved.getWidth());
+        Assertions.assertEquals(Color.RED.getRGB(), saved.getRGB(CELL / 2, CELL / 2));
+    }
+
+    /**
+     * Tests invalid arguments are rejected.
+     */
+    @Test
+    void testInvalid() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new OffscreenRendererImpl(MAP_SIZE, Size.of(0, 0)));
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new OffscreenRendererImpl(MAP_SIZE, RENDER_SIZE, Path.of("frames"), 0)
+        );
+    }
+
+    private Drawable square(final int logicalCenter) {
+        final BufferedImage image = new BufferedImage(CELL, CELL, BufferedImage.TYPE_INT_RGB);
+        final Graphics2D g2d = image.createGraphics();
+        g2d.setColor(Color.RED);
+        g2d.fillRect(0, 0, CELL, CELL);
+        g2d.dispose();
+        return new ImageDrawable(image, new LogicalPosition(logicalCenter, logicalCenter));
+    }
+}